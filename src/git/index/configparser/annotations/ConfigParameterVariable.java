@@ -52,10 +52,28 @@ public @interface ConfigParameterVariable
      */
     boolean notPresentedInConfig() default false;
 
+    /**
+     * Field is a nested config object, which fields will be parsed from keys with prefix {@code parameterName + "."}.
+     * For example, field with name {@code db.pool} and type {@code DbPool} will be parsed from {@code db.pool.size} and {@code db.pool.timeout}.
+     * Nested class should have a zero argument constructor, if field value is {@code null}.
+     * @return if field is nested config object
+     */
+    boolean nestedObject() default false;
+
     String spliterator01() default "";
 
     String spliterator02() default "";
 
+    /**
+     * Separator of third dimension of array
+     */
+    String spliterator03() default "";
+
+    /**
+     * Separator of fourth dimension of array
+     */
+    String spliterator04() default "";
+
     String defaultValue() default "";
 
     String commentValue() default "";
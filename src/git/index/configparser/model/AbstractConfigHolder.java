@@ -24,11 +24,14 @@
 package git.index.configparser.model;
 
 import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.FieldParserManager;
+import git.index.fieldparser.interfaces.IFieldChangeListener;
 
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
 
 public abstract class AbstractConfigHolder<H>
 {
@@ -61,14 +64,36 @@ public abstract class AbstractConfigHolder<H>
 
     protected final LoggerImpl _logger;
 
-    private final H _configInstance;
+    /**
+     * For immutable configs (records) - snapshot, which replaced on every load.
+     */
+    private volatile H _configInstance;
     private final ConfigFieldParser _configParser;
+    private final ImmutableConfigBinder<H> _immutableBinder;
+    /**
+     * Loads of same holder are going one by one, so loaded snapshot and counters of fields belong to same load.
+     */
+    private final ReentrantLock _loadLock;
 
     protected AbstractConfigHolder(boolean parseFieldOneByOne, boolean accessIntoPrivate)
     {
         _logger = new LoggerImpl(this.getClass());
-        _configInstance = createANewInstance();
-        _configParser = new ConfigFieldParser(getInstanceOfConfig(), parseFieldOneByOne, accessIntoPrivate);
+        _loadLock = new ReentrantLock();
+        if (ImmutableConfigBinder.isImmutableClass(getAttachedConfig()))
+        {
+            _immutableBinder = new ImmutableConfigBinder<>(getAttachedConfig(), accessIntoPrivate);
+            _immutableBinder.setParserManager(getParserManager());
+            _configParser = null;
+            // snapshot with default values, until first load
+            _configInstance = _immutableBinder.bind(new ConfigParser(null, getCharacterSet()), null);
+        }
+        else
+        {
+            _immutableBinder = null;
+            _configInstance = createANewInstance();
+            _configParser = new ConfigFieldParser(getInstanceOfConfig(), parseFieldOneByOne, accessIntoPrivate);
+            _configParser.setParserManager(getParserManager());
+        }
     }
 
     protected AbstractConfigHolder()
@@ -81,10 +106,49 @@ public abstract class AbstractConfigHolder<H>
         _logger.info("Start loading config " + ("[" + "'" + getAttachedConfig().getSimpleName() + "'" + "]") + "...");
         ConfigParser configParser = new ConfigParser(new File(WORKING_PATH, getConfigPath()), getCharacterSet());
         configParser.load();
-        _configParser.setConfigParser(configParser);
-        _configParser.load();
-        _configParser.setConfigParser(null);
-        _logger.info("Loaded config " + ("[" + "'" + getAttachedConfig().getSimpleName() + "'" + "]") + ". " + "Loaded " + ("[" + _configParser.getCountOfSuccessLoadedFields() + "]") + " of " + ("[" + _configParser.getLoadedFieldsCount() + "]") + " fields.");
+        _loadLock.lock();
+        try
+        {
+            if (_immutableBinder != null)
+            {
+                _configInstance = _immutableBinder.bind(configParser, _configInstance);
+                _logger.info("Loaded config " + ("[" + "'" + getAttachedConfig().getSimpleName() + "'" + "]") + ". " + "Loaded " + ("[" + _immutableBinder.getCountOfSuccessLoadedFields() + "]") + " of " + ("[" + _immutableBinder.getLoadedFieldsCount() + "]") + " fields.");
+                return;
+            }
+            _configParser.load(configParser);
+            _logger.info("Loaded config " + ("[" + "'" + getAttachedConfig().getSimpleName() + "'" + "]") + ". " + "Loaded " + ("[" + _configParser.getCountOfSuccessLoadedFields() + "]") + " of " + ("[" + _configParser.getLoadedFieldsCount() + "]") + " fields.");
+        }
+        finally
+        {
+            _loadLock.unlock();
+        }
+    }
+
+    /**
+     * Listener will receive one callback per {@link #load()} with fields, which values were really changed.
+     */
+    public void addChangeListener(IFieldChangeListener changeListener)
+    {
+        if (_immutableBinder != null)
+        {
+            _immutableBinder.addChangeListener(changeListener);
+        }
+        else
+        {
+            _configParser.addChangeListener(changeListener);
+        }
+    }
+
+    public void removeChangeListener(IFieldChangeListener changeListener)
+    {
+        if (_immutableBinder != null)
+        {
+            _immutableBinder.removeChangeListener(changeListener);
+        }
+        else
+        {
+            _configParser.removeChangeListener(changeListener);
+        }
     }
 
     private H createANewInstance()
@@ -121,6 +185,15 @@ public abstract class AbstractConfigHolder<H>
 
     public abstract Class<H> getAttachedConfig();
 
+    /**
+     * Registry of parsers for this config. Override to use a child registry ({@link FieldParserManager#createChildRegistry()})
+     * with own parsers of some classes, without changing a global registry.
+     */
+    public FieldParserManager getParserManager()
+    {
+        return FieldParserManager.getInstance();
+    }
+
     public Charset getCharacterSet()
     {
         return StandardCharsets.UTF_8;
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.configparser.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Binds one loaded config file into many instances (one per tenant) with small per-instance overrides.
+ * <p>Base file is read and tokenized once. Immutable values, parsed from base file, are shared by reference between
+ * all instances ({@link SharedParsedValues}) - only overridden keys and mutable values are parsed per instance.</p>
+ */
+public class ConfigBulkBinder
+{
+    private final ConfigParser _baseConfigParser;
+    private final SharedParsedValues _sharedParsedValues;
+
+    /**
+     * @param baseConfigParser loaded parser of base config file
+     */
+    public ConfigBulkBinder(ConfigParser baseConfigParser)
+    {
+        _baseConfigParser = baseConfigParser;
+        _sharedParsedValues = new SharedParsedValues();
+    }
+
+    public ConfigParser getBaseConfigParser()
+    {
+        return _baseConfigParser;
+    }
+
+    /**
+     * @param fieldParser parser of instance. Can be reused for next reloads of same instance.
+     * @param overrides overridden keys of instance (can be empty)
+     */
+    public void bind(ConfigFieldParser fieldParser, Map<String, String> overrides)
+    {
+        ConfigParser configParser = ((overrides == null) || overrides.isEmpty()) ? _baseConfigParser : _baseConfigParser.withOverrides(overrides);
+        fieldParser.load(configParser, _sharedParsedValues);
+    }
+
+    /**
+     * @param instances config instances
+     * @param overridesFunction overrides of instance (can return {@code null})
+     * @param accessIntoPrivate is accessing into private fields
+     * @return created parsers in order of instances. Can be used for {@link #bind(ConfigFieldParser, Map)} on reload.
+     */
+    public <H> List<ConfigFieldParser> bindAll(Collection<H> instances, Function<H, Map<String, String>> overridesFunction, boolean accessIntoPrivate)
+    {
+        if (instances.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+        List<ConfigFieldParser> fieldParsers = new ArrayList<>(instances.size());
+        for (H instance : instances)
+        {
+            ConfigFieldParser fieldParser = new ConfigFieldParser(instance, accessIntoPrivate, false);
+            bind(fieldParser, overridesFunction.apply(instance));
+            fieldParsers.add(fieldParser);
+        }
+        return fieldParsers;
+    }
+
+    /**
+     * Should be called, if base config parser was reloaded.
+     */
+    public void clearSharedValues()
+    {
+        _sharedParsedValues.clear();
+    }
+}
@@ -25,10 +25,12 @@ package git.index.configparser.model;
 
 import git.index.configparser.annotations.ConfigParameterVariable;
 import git.index.fieldparser.annotations.FieldParser;
+import git.index.fieldparser.model.FieldChange;
 import git.index.fieldparser.model.FieldClassRef;
 import git.index.fieldparser.model.attributes.FieldAttributes;
 import git.index.fieldparser.model.fieldparser.AbstractFieldParser;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -36,23 +38,62 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 public class ConfigFieldParser extends AbstractFieldParser
 {
-    private Map<String, ConfigFieldHolder> _configValues;
+    /**
+     * Parser, which will be used by {@link #load()}.
+     */
+    private volatile ConfigParser _configParser;
 
-    private ConfigParser _configParser;
+    /**
+     * State of current load. Exists only while {@link #_loadLock} is held.
+     */
+    private LoadContext _loadContext;
+    private final ReentrantLock _loadLock;
 
     private final boolean _linked;
-
-    private int _lastFieldCollectionCount;
-    private int _lastSuccessParsedFields;
+    /**
+     * Holders of config fields, built from annotations on first load. Key - field name.
+     * Annotations and split patterns do not change, so reload only reads values from config.
+     */
+    private Map<String, ConfigFieldHolder> _configFieldHolders;
+
+    /**
+     * Parsers of nested config objects. Key - field name.
+     */
+    private final Map<String, ConfigFieldParser> _nestedParsers;
+    /**
+     * Binders of nested immutable config objects (records). Key - field name.
+     */
+    private final Map<String, ImmutableConfigBinder<Object>> _nestedBinders;
+    /**
+     * Parser of nested object does not fire own changes - they are collected by parent parser and delivered to its listeners.
+     */
+    private boolean _collectChangesForParent;
+    /**
+     * {@code false} - 'onStartLoad' / 'onEndLoad' are called by owner of parser (like {@link ImmutableConfigBinder} for static fields of records).
+     */
+    private boolean _invokeLoadMethods = true;
+
+    private volatile int _lastFieldCollectionCount;
+    private volatile int _lastSuccessParsedFields;
 
     public ConfigFieldParser(Object configInstance, boolean accessIntoPrivate, boolean linked)
     {
         super(configInstance, accessIntoPrivate);
         _linked = linked;
+        _loadLock = new ReentrantLock();
+        _nestedParsers = new HashMap<>();
+        _nestedBinders = new HashMap<>();
+    }
+
+    void setInvokeLoadMethods(boolean invokeLoadMethods)
+    {
+        _invokeLoadMethods = invokeLoadMethods;
     }
 
     public void setConfigParser(ConfigParser configParser)
@@ -62,18 +103,109 @@ public class ConfigFieldParser extends AbstractFieldParser
 
     public void load()
     {
-        if (_configParser == null)
+        load(_configParser);
+    }
+
+    /**
+     * Loads values from parser. Loads of same instance are going one by one, loads of different instances can go in parallel.
+     */
+    public void load(ConfigParser configParser)
+    {
+        load(configParser, null);
+    }
+
+    /**
+     * @param sharedParsedValues storage of values, parsed from base config (can be {@code null}).
+     * {@code configParser} should be a base parser or its {@link ConfigParser#withOverrides(Map)} view - overridden values are not shared.
+     */
+    void load(ConfigParser configParser, SharedParsedValues sharedParsedValues)
+    {
+        if (configParser == null)
         {
             return;
         }
-        if (_linked)
+        _loadLock.lock();
+        try
         {
-            _configValues = new LinkedHashMap<>();
+            // changes are delivered before next load can start - listeners receive batches in order of loads
+            fireFieldChanges(loadAndCollectChanges(configParser, sharedParsedValues));
         }
-        else
+        finally
+        {
+            _loadLock.unlock();
+        }
+    }
+
+    /**
+     * Loads values under {@link #_loadLock}. 'onEndLoad' method is called before lock is released,
+     * so it cannot see values of concurrent load.
+     * @return changes of this load, or {@code null} - if nothing was changed
+     */
+    private List<FieldChange> loadAndCollectChanges(ConfigParser configParser, SharedParsedValues sharedParsedValues)
+    {
+        if (configParser == null)
+        {
+            return null;
+        }
+        List<FieldChange> fieldChanges;
+        _loadLock.lock();
+        // lock is reentrant - load can be started from method of config (like 'onStartLoad'), so state of outer load is kept aside
+        LoadContext previousLoadContext = _loadContext;
+        List<FieldChange> previousFieldChanges = drainFieldChanges();
+        try
+        {
+            _loadContext = new LoadContext(configParser, new HashMap<>(), sharedParsedValues);
+            loadFields(_loadContext._configValues);
+            tryToBumpOnEndLoadMethod();
+        }
+        finally
+        {
+            fieldChanges = drainFieldChanges();
+            _fieldChanges = previousFieldChanges;
+            _loadContext = previousLoadContext;
+            _loadLock.unlock();
+        }
+        return fieldChanges;
+    }
+
+    @Override
+    protected boolean isTrackingChanges()
+    {
+        return _collectChangesForParent || super.isTrackingChanges();
+    }
+
+    private void loadFields(Map<String, String> configValues)
+    {
+        Map<String, ConfigFieldHolder> configFieldHolders = getConfigFieldHolders();
+        for (ConfigFieldHolder configFieldHolder : configFieldHolders.values())
         {
-            _configValues = new HashMap<>();
+            configValues.put(configFieldHolder.getFieldName(), _loadContext._configParser.getValueByKey(configFieldHolder.getConfigFieldName(), configFieldHolder.getConfigFieldDefaultValue()));
         }
+        tryToBumpOnStartLoadMethod();
+        int counter = 0;
+        for (ConfigFieldHolder configFieldHolder : configFieldHolders.values())
+        {
+            if (!parseValue(configFieldHolder.getFieldName()))
+            {
+                continue;
+            }
+            counter += 1;
+        }
+        _lastFieldCollectionCount = configFieldHolders.size();
+        _lastSuccessParsedFields = counter;
+    }
+
+    /**
+     * Called under {@link #_loadLock}.
+     */
+    private Map<String, ConfigFieldHolder> getConfigFieldHolders()
+    {
+        Map<String, ConfigFieldHolder> configFieldHolders = _configFieldHolders;
+        if (configFieldHolders != null)
+        {
+            return configFieldHolders;
+        }
+        configFieldHolders = _linked ? new LinkedHashMap<>() : new HashMap<>();
         for (FieldHolder fieldHolder : _fieldMap.values())
         {
             Field field = fieldHolder.getField();
@@ -92,28 +224,15 @@ public class ConfigFieldParser extends AbstractFieldParser
                 _logger.warn("Field " + ("[" + configFieldHolder.getFieldName() + "]") + " marked as 'not presented in config', but it also do not have a declared 'set parameter method'. Use a 'ignoredParameter' if this not a mistake!");
                 continue;
             }
-            _configValues.put(configFieldHolder.getFieldName(), configFieldHolder);
-        }
-        tryToBumpOnStartLoadMethod();
-        int counter = 0;
-        for (ConfigFieldHolder configFieldHolder : _configValues.values())
-        {
-            if (!parseValue(configFieldHolder.getFieldName()))
-            {
-                continue;
-            }
-            counter += 1;
+            configFieldHolders.put(configFieldHolder.getFieldName(), configFieldHolder);
         }
-        tryToBumpOnEndLoadMethod();
-        _lastFieldCollectionCount = _configValues.size();
-        _lastSuccessParsedFields = counter;
-        _configValues.clear();
-        _configValues = null;
+        _configFieldHolders = configFieldHolders;
+        return configFieldHolders;
     }
 
     private ConfigFieldHolder parseFieldHolder(FieldHolder fieldHolder, ConfigParameterVariable configParameterVariable)
     {
-        ConfigFieldHolder configFieldHolder = new ConfigFieldHolder(fieldHolder.getField().getName());
+        ConfigFieldHolder configFieldHolder = new ConfigFieldHolder(fieldHolder.getFieldName());
         // parameter name in config file
         if (configParameterVariable.parameterName().isEmpty())
         {
@@ -152,6 +271,8 @@ public class ConfigFieldParser extends AbstractFieldParser
                 configFieldHolder.setFieldClass(fieldParserAnnotation.classType());
             }
             configFieldHolder.setGenericTypeClasses(configParameterVariable.fieldParser().genericClasses());
+            configFieldHolder.setUnmodifiable(fieldParserAnnotation.unmodifiable());
+            configFieldHolder.setTimeUnit((fieldParserAnnotation.timeUnit().length == 0) ? null : fieldParserAnnotation.timeUnit()[0]);
         }
         else
         {
@@ -168,8 +289,15 @@ public class ConfigFieldParser extends AbstractFieldParser
         {
             configFieldHolder.setSpliterator02(configParameterVariable.spliterator02());
         }
-
-        configFieldHolder.setConfigFieldValue(_configParser.getValueByKey(configFieldHolder.getConfigFieldName(), configFieldHolder.getConfigFieldDefaultValue()));
+        if (!configParameterVariable.spliterator03().isEmpty())
+        {
+            configFieldHolder.setSpliterator03(configParameterVariable.spliterator03());
+        }
+        if (!configParameterVariable.spliterator04().isEmpty())
+        {
+            configFieldHolder.setSpliterator04(configParameterVariable.spliterator04());
+        }
+        configFieldHolder.setNestedObject(configParameterVariable.nestedObject());
 
         return configFieldHolder;
     }
@@ -177,7 +305,7 @@ public class ConfigFieldParser extends AbstractFieldParser
     @Override
     protected List<Object> overrideMethodArguments(FieldHolder fieldHolder, MethodHolder methodHolder)
     {
-        ConfigFieldHolder configFieldHolder = _configValues.getOrDefault(fieldHolder.getField().getName(), null);
+        ConfigFieldHolder configFieldHolder = _configFieldHolders.getOrDefault(fieldHolder.getFieldName(), null);
         if (configFieldHolder == null)
         {
             _logger.error("Cannot use a method " + ("[" + getMethodNameForAssignationField(fieldHolder.getField()) + "]") + ". Reason - cannot find field, which call a method assignation.");
@@ -195,18 +323,18 @@ public class ConfigFieldParser extends AbstractFieldParser
         }
         else if (methodHolder.getMethod().getParameterCount() == 1)
         {
-            arguments.add(configFieldHolder.getConfigFieldValue());
+            arguments.add(getRawFieldValue(configFieldHolder.getFieldName()));
         }
         else if (methodHolder.getMethod().getParameterCount() == 2)
         {
             arguments.add(configFieldHolder.getConfigFieldName());
-            arguments.add(configFieldHolder.getConfigFieldValue());
+            arguments.add(getRawFieldValue(configFieldHolder.getFieldName()));
         }
         else if (methodHolder.getMethod().getParameterCount() == 3)
         {
             arguments.add(configFieldHolder.getConfigFieldName());
-            arguments.add(configFieldHolder.getConfigFieldValue());
-            arguments.add(_configParser);
+            arguments.add(getRawFieldValue(configFieldHolder.getFieldName()));
+            arguments.add(_loadContext._configParser);
         }
         else
         {
@@ -216,6 +344,116 @@ public class ConfigFieldParser extends AbstractFieldParser
         return arguments;
     }
 
+    @Override
+    protected boolean setValueIntoField(FieldHolder fieldHolder)
+    {
+        ConfigFieldHolder configFieldHolder = _configFieldHolders.getOrDefault(fieldHolder.getFieldName(), null);
+        if ((configFieldHolder == null) || (!configFieldHolder.isNestedObject()))
+        {
+            return super.setValueIntoField(fieldHolder);
+        }
+        return setValueIntoNestedObject(fieldHolder, configFieldHolder);
+    }
+
+    protected boolean setValueIntoNestedObject(FieldHolder fieldHolder, ConfigFieldHolder configFieldHolder)
+    {
+        if (ImmutableConfigBinder.isImmutableClass(configFieldHolder.getFieldClass()))
+        {
+            return setValueIntoNestedImmutableObject(fieldHolder, configFieldHolder);
+        }
+        Object nestedInstance = getFieldValue(fieldHolder);
+        if (nestedInstance == null)
+        {
+            nestedInstance = createNestedInstance(configFieldHolder);
+            if (nestedInstance == null)
+            {
+                return false;
+            }
+            try
+            {
+                setFieldValue(fieldHolder, nestedInstance);
+            }
+            catch (Exception e)
+            {
+                _logger.error("Cannot set nested object for field " + ("[" + configFieldHolder.getFieldName() + "]") + ". Reason - ", e);
+                return false;
+            }
+        }
+        ConfigFieldParser nestedParser = _nestedParsers.getOrDefault(configFieldHolder.getFieldName(), null);
+        if ((nestedParser == null) || (nestedParser.getInstanceOfFieldParser() != nestedInstance))
+        {   // field was re-assigned outside - bind to actual instance
+            nestedParser = new ConfigFieldParser(nestedInstance, _accessIntoPrivate, _linked);
+            _nestedParsers.put(configFieldHolder.getFieldName(), nestedParser);
+        }
+        nestedParser.setParserManager(_parserManager);
+        // nested object is reloaded in place, so parent cannot see its changes by comparing of field value
+        nestedParser._collectChangesForParent = isTrackingChanges();
+        // nested view keeps overrides of tenant, so values of nested object are shared in same way
+        List<FieldChange> nestedChanges = nestedParser.loadAndCollectChanges(_loadContext._configParser.getNestedConfigParser(configFieldHolder.getConfigFieldName()), _loadContext._sharedParsedValues);
+        if (nestedChanges != null)
+        {
+            for (FieldChange nestedChange : nestedChanges)
+            {
+                addFieldChange(nestedChange.withNamePrefix(configFieldHolder.getFieldName()));
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected boolean setValueIntoNestedImmutableObject(FieldHolder fieldHolder, ConfigFieldHolder configFieldHolder)
+    {
+        ImmutableConfigBinder<Object> nestedBinder = _nestedBinders.getOrDefault(configFieldHolder.getFieldName(), null);
+        if (nestedBinder == null)
+        {
+            try
+            {
+                nestedBinder = new ImmutableConfigBinder<>((Class<Object>) configFieldHolder.getFieldClass(), _accessIntoPrivate);
+            }
+            catch (IllegalArgumentException e)
+            {
+                _logger.error("Cannot bind nested immutable object for field " + ("[" + configFieldHolder.getFieldName() + "]") + ". Reason - ", e);
+                return false;
+            }
+            _nestedBinders.put(configFieldHolder.getFieldName(), nestedBinder);
+        }
+        nestedBinder.setParserManager(_parserManager);
+        Object previousSnapshot = getFieldValue(fieldHolder);
+        Object nextSnapshot = nestedBinder.bind(_loadContext._configParser.getNestedConfigParser(configFieldHolder.getConfigFieldName()), previousSnapshot);
+        if (nextSnapshot == null)
+        {
+            return false;
+        }
+        try
+        {
+            setFieldValue(fieldHolder, nextSnapshot);
+            return true;
+        }
+        catch (Exception e)
+        {
+            _logger.error("Cannot set nested object for field " + ("[" + configFieldHolder.getFieldName() + "]") + ". Reason - ", e);
+            return false;
+        }
+    }
+
+    private Object createNestedInstance(ConfigFieldHolder configFieldHolder)
+    {
+        try
+        {
+            Constructor<?> constructor = configFieldHolder.getFieldClass().getDeclaredConstructor();
+            if (_accessIntoPrivate)
+            {
+                constructor.setAccessible(true);
+            }
+            return constructor.newInstance();
+        }
+        catch (Exception e)
+        {
+            _logger.error("Cannot create nested object " + ("[" + configFieldHolder.getFieldClass().getSimpleName() + "]") + " for field " + ("[" + configFieldHolder.getFieldName() + "]") + ". Reason - ", e);
+            return null;
+        }
+    }
+
     @Override
     protected boolean isMethodCallAssign(Field field)
     {
@@ -223,7 +461,7 @@ public class ConfigFieldParser extends AbstractFieldParser
         {
             return false;
         }
-        ConfigFieldHolder configFieldHolder = _configValues.getOrDefault(field.getName(), null);
+        ConfigFieldHolder configFieldHolder = _configFieldHolders.getOrDefault(field.getName(), null);
         if (configFieldHolder == null)
         {
             return false;
@@ -238,7 +476,7 @@ public class ConfigFieldParser extends AbstractFieldParser
         {
             return "";
         }
-        ConfigFieldHolder configFieldHolder = _configValues.getOrDefault(field.getName(), null);
+        ConfigFieldHolder configFieldHolder = _configFieldHolders.getOrDefault(field.getName(), null);
         if (configFieldHolder == null)
         {
             return "";
@@ -253,19 +491,35 @@ public class ConfigFieldParser extends AbstractFieldParser
         {
             return super.overrideClassRef(field, defaultFieldValue);
         }
-        ConfigFieldHolder configFieldHolder = _configValues.getOrDefault(field.getName(), null);
+        ConfigFieldHolder configFieldHolder = _configFieldHolders.getOrDefault(field.getName(), null);
         if (configFieldHolder == null)
         {
             return super.overrideClassRef(field, defaultFieldValue);
         }
         FieldClassRef<Object> fieldClassRef = new FieldClassRef<>(configFieldHolder.getFieldClass(), configFieldHolder.getGenericTypeClasses());
-        if (configFieldHolder.getSpliterator01() != null)
+        if (configFieldHolder.getSplitPattern01() != null)
+        {
+            fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_01, configFieldHolder.getSplitPattern01());
+        }
+        if (configFieldHolder.getSplitPattern02() != null)
+        {
+            fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_02, configFieldHolder.getSplitPattern02());
+        }
+        if (configFieldHolder.getSplitPattern03() != null)
         {
-            fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_01, Pattern.compile(configFieldHolder.getSpliterator01()));
+            fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_03, configFieldHolder.getSplitPattern03());
         }
-        if (configFieldHolder.getSpliterator02() != null)
+        if (configFieldHolder.getSplitPattern04() != null)
         {
-            fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_02, Pattern.compile(configFieldHolder.getSpliterator02()));
+            fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_04, configFieldHolder.getSplitPattern04());
+        }
+        if (configFieldHolder.isUnmodifiable())
+        {
+            fieldClassRef.withAttribute(FieldAttributes.UNMODIFIABLE, Boolean.TRUE);
+        }
+        if (configFieldHolder.getTimeUnit() != null)
+        {
+            fieldClassRef.withAttribute(FieldAttributes.TIME_UNIT, configFieldHolder.getTimeUnit());
         }
         return fieldClassRef;
     }
@@ -273,17 +527,49 @@ public class ConfigFieldParser extends AbstractFieldParser
     @Override
     protected String getRawFieldValue(String proceedFieldName)
     {
-        ConfigFieldHolder configFieldHolder = _configValues.getOrDefault(proceedFieldName, null);
-        if (configFieldHolder == null)
+        return _loadContext._configValues.getOrDefault(proceedFieldName, null);
+    }
+
+    @Override
+    protected boolean isSharingParsedValues()
+    {
+        return _loadContext._sharedParsedValues != null;
+    }
+
+    @Override
+    protected Object getSharedParsedValue(FieldHolder fieldHolder, String rawStringFieldValue)
+    {
+        SharedParsedValues sharedParsedValues = _loadContext._sharedParsedValues;
+        if ((sharedParsedValues == null) || (rawStringFieldValue == null))
         {
             return null;
         }
-        return configFieldHolder.getConfigFieldValue();
+        return sharedParsedValues.getValue(fieldHolder.getField(), rawStringFieldValue);
+    }
+
+    @Override
+    protected void putSharedParsedValue(FieldHolder fieldHolder, String rawStringFieldValue, Object parsedValue)
+    {
+        SharedParsedValues sharedParsedValues = _loadContext._sharedParsedValues;
+        if ((sharedParsedValues == null) || (rawStringFieldValue == null))
+        {
+            return;
+        }
+        ConfigFieldHolder configFieldHolder = _configFieldHolders.getOrDefault(fieldHolder.getFieldName(), null);
+        if (configFieldHolder == null)
+        {
+            return;
+        }
+        // overridden values are not shared
+        if (!_loadContext._configParser.isOverriddenKey(configFieldHolder.getConfigFieldName()))
+        {
+            sharedParsedValues.putValue(fieldHolder.getField(), rawStringFieldValue, parsedValue);
+        }
     }
 
     protected void tryToBumpOnStartLoadMethod()
     {
-        MethodHolder onStartLoadMethod = _methodMap.getOrDefault("onStartLoad", null);
+        MethodHolder onStartLoadMethod = _invokeLoadMethods ? _methodMap.getOrDefault("onStartLoad", null) : null;
         if (onStartLoadMethod == null)
         {
             return;
@@ -300,7 +586,7 @@ public class ConfigFieldParser extends AbstractFieldParser
 
     protected void tryToBumpOnEndLoadMethod()
     {
-        MethodHolder onEndLoadMethod = _methodMap.getOrDefault("onEndLoad", null);
+        MethodHolder onEndLoadMethod = _invokeLoadMethods ? _methodMap.getOrDefault("onEndLoad", null) : null;
         if (onEndLoadMethod == null)
         {
             return;
@@ -325,21 +611,53 @@ public class ConfigFieldParser extends AbstractFieldParser
         return _lastSuccessParsedFields;
     }
 
-    private static class ConfigFieldHolder
-    {   // will destroyed after parsing I guess
+    /**
+     * Per-load state. New context is created on every load, so values of previous load cannot leak into next one.
+     */
+    private final static class LoadContext
+    {
+        private final ConfigParser _configParser;
+        /**
+         * Raw values of config fields. Key - field name.
+         */
+        private final Map<String, String> _configValues;
+        private final SharedParsedValues _sharedParsedValues;
+
+        private LoadContext(ConfigParser configParser, Map<String, String> configValues, SharedParsedValues sharedParsedValues)
+        {
+            _configParser = configParser;
+            _configValues = configValues;
+            _sharedParsedValues = sharedParsedValues;
+        }
+    }
+
+    protected static class ConfigFieldHolder
+    {   // built once per parser - values of config are kept by load context
         private final String _fieldName;
         private String _configFieldName;
-        private String _configFieldValue;
         private String _configFieldDefaultValue;
         private String _configFieldDefaultComment;
         private String _setParameterMethod;
 
         private String _spliterator01;
         private String _spliterator02;
+        private String _spliterator03;
+        private String _spliterator04;
+        /**
+         * Compiled spliterators - compiled once, when holder is built.
+         */
+        private Pattern _splitPattern01;
+        private Pattern _splitPattern02;
+        private Pattern _splitPattern03;
+        private Pattern _splitPattern04;
 
         private Class<?> _fieldClass;
         private Class<?>[] _genericTypeClasses;
 
+        private boolean _nestedObject;
+        private boolean _unmodifiable;
+        private TimeUnit _timeUnit;
+
         private ConfigFieldHolder(String fieldName)
         {
             _fieldName = fieldName;
@@ -360,16 +678,6 @@ public class ConfigFieldParser extends AbstractFieldParser
             _configFieldName = configFieldName;
         }
 
-        public String getConfigFieldValue()
-        {
-            return _configFieldValue;
-        }
-
-        public void setConfigFieldValue(String configFieldValue)
-        {
-            _configFieldValue = configFieldValue;
-        }
-
         public String getConfigFieldDefaultValue()
         {
             return _configFieldDefaultValue;
@@ -408,6 +716,12 @@ public class ConfigFieldParser extends AbstractFieldParser
         public void setSpliterator01(String spliterator01)
         {
             _spliterator01 = spliterator01;
+            _splitPattern01 = (spliterator01 == null) ? null : Pattern.compile(spliterator01);
+        }
+
+        public Pattern getSplitPattern01()
+        {
+            return _splitPattern01;
         }
 
         public String getSpliterator02()
@@ -418,6 +732,44 @@ public class ConfigFieldParser extends AbstractFieldParser
         public void setSpliterator02(String spliterator02)
         {
             _spliterator02 = spliterator02;
+            _splitPattern02 = (spliterator02 == null) ? null : Pattern.compile(spliterator02);
+        }
+
+        public Pattern getSplitPattern02()
+        {
+            return _splitPattern02;
+        }
+
+        public String getSpliterator03()
+        {
+            return _spliterator03;
+        }
+
+        public void setSpliterator03(String spliterator03)
+        {
+            _spliterator03 = spliterator03;
+            _splitPattern03 = (spliterator03 == null) ? null : Pattern.compile(spliterator03);
+        }
+
+        public Pattern getSplitPattern03()
+        {
+            return _splitPattern03;
+        }
+
+        public String getSpliterator04()
+        {
+            return _spliterator04;
+        }
+
+        public void setSpliterator04(String spliterator04)
+        {
+            _spliterator04 = spliterator04;
+            _splitPattern04 = (spliterator04 == null) ? null : Pattern.compile(spliterator04);
+        }
+
+        public Pattern getSplitPattern04()
+        {
+            return _splitPattern04;
         }
 
         public Class<?> getFieldClass()
@@ -439,5 +791,35 @@ public class ConfigFieldParser extends AbstractFieldParser
         {
             _genericTypeClasses = genericTypeClasses;
         }
+
+        public boolean isUnmodifiable()
+        {
+            return _unmodifiable;
+        }
+
+        public void setUnmodifiable(boolean unmodifiable)
+        {
+            _unmodifiable = unmodifiable;
+        }
+
+        public TimeUnit getTimeUnit()
+        {
+            return _timeUnit;
+        }
+
+        public void setTimeUnit(TimeUnit timeUnit)
+        {
+            _timeUnit = timeUnit;
+        }
+
+        public boolean isNestedObject()
+        {
+            return _nestedObject;
+        }
+
+        public void setNestedObject(boolean nestedObject)
+        {
+            _nestedObject = nestedObject;
+        }
     }
 }
@@ -31,6 +31,7 @@ import java.io.LineNumberReader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -47,6 +48,27 @@ public class ConfigParser
 
     private final Map<String, String> _parsedConfigData;
 
+    /**
+     * Root parser, which owns a prefix index. For nested views - parser, which was loaded from file.
+     */
+    private final ConfigParser _rootParser;
+    /**
+     * Prefix of nested view (without last dot). Empty for parser, which was loaded from file.
+     */
+    private final String _keyPrefix;
+
+    /**
+     * Prefix index, built on first {@link #getNestedConfigParser(String)} after {@link #load()} ({@code null} - not built yet).
+     * Key - every dot-separated prefix of config key ({@code db} and {@code db.pool} for {@code db.pool.size}).
+     * Value - map of remaining part of key to config value ({@code size} / {@code pool.size}).
+     */
+    private volatile Map<String, Map<String, String>> _prefixIndex;
+
+    /**
+     * For parsers with overrides - parser with base values, which used if key is not overridden.
+     */
+    private final ConfigParser _fallbackParser;
+
     public ConfigParser(File configFilePath, Charset characterSet)
     {
         _logger             = new LoggerImpl(getClass());
@@ -55,21 +77,114 @@ public class ConfigParser
         _characterSet       = characterSet      ;
 
         _parsedConfigData   = new HashMap<>()   ;
+
+        _rootParser         = this              ;
+        _keyPrefix          = ""                ;
+        _prefixIndex        = null              ;
+        _fallbackParser     = null              ;
+    }
+
+    private ConfigParser(ConfigParser rootParser, String keyPrefix, Map<String, String> nestedConfigData)
+    {
+        _logger             = rootParser._logger;
+
+        // view cannot be loaded from file
+        _configFilePath     = null              ;
+        _characterSet       = rootParser._characterSet;
+
+        _parsedConfigData   = nestedConfigData  ;
+
+        _rootParser         = rootParser        ;
+        _keyPrefix          = keyPrefix         ;
+        _prefixIndex        = null              ;
+        _fallbackParser     = null              ;
+    }
+
+    private ConfigParser(ConfigParser fallbackParser, Map<String, String> overrides)
+    {
+        _logger             = fallbackParser._logger;
+
+        // view cannot be loaded from file
+        _configFilePath     = null              ;
+        _characterSet       = fallbackParser._characterSet;
+
+        _parsedConfigData   = new HashMap<>(overrides);
+
+        _rootParser         = this              ;
+        _keyPrefix          = ""                ;
+        _prefixIndex        = null              ;
+        _fallbackParser     = fallbackParser    ;
+    }
+
+    /**
+     * Creates a view, where values of {@code overrides} replace values of this parser. Base values are not copied.
+     * @param overrides overridden keys and values
+     * @return parser with overrides
+     */
+    public ConfigParser withOverrides(Map<String, String> overrides)
+    {
+        return new ConfigParser(this, overrides);
+    }
+
+    /**
+     * @return {@code true} - if value of key is set by overrides of this view (see {@link #withOverrides(Map)}), not by base parser
+     */
+    public boolean isOverriddenKey(String key)
+    {
+        return (_fallbackParser != null) && _parsedConfigData.containsKey(key);
     }
 
     public Collection<String> keySet()
     {
-        return _parsedConfigData.keySet();
+        return getMergedConfigData().keySet();
     }
 
     public Collection<String> values()
     {
-        return _parsedConfigData.values();
+        return getMergedConfigData().values();
     }
 
     public String getValueByKey(String key, String defaultValue)
     {
-        return _parsedConfigData.getOrDefault(key, defaultValue);
+        if (_fallbackParser == null)
+        {
+            return _parsedConfigData.getOrDefault(key, defaultValue);
+        }
+        String value = _parsedConfigData.get(key);
+        return (value == null) ? _fallbackParser.getValueByKey(key, defaultValue) : value;
+    }
+
+    private Map<String, String> getMergedConfigData()
+    {
+        if (_fallbackParser == null)
+        {
+            return _parsedConfigData;
+        }
+        Map<String, String> mergedConfigData = new HashMap<>(_fallbackParser.getMergedConfigData());
+        mergedConfigData.putAll(_parsedConfigData);
+        return mergedConfigData;
+    }
+
+    /**
+     * Returns a read-only view of all values, which keys starts from {@code prefix + "."}.
+     * Keys of view do not contain a prefix - for prefix {@code db.pool} key {@code db.pool.size} will be presented as {@code size}.
+     * Lookup is going through prefix index, which built once on first call after {@link #load()} - config keys are not scanned again.
+     * @param prefix key prefix without last dot, relative to current parser
+     * @return nested parser (can be empty, if config do not contain any keys with this prefix)
+     */
+    public ConfigParser getNestedConfigParser(String prefix)
+    {
+        String fullPrefix = _keyPrefix.isEmpty() ? prefix : (_keyPrefix + "." + prefix);
+        Map<String, String> nestedConfigData = _rootParser.getPrefixIndex().getOrDefault(fullPrefix, null);
+        if (nestedConfigData == null)
+        {
+            nestedConfigData = Collections.emptyMap();
+        }
+        if (_fallbackParser != null)
+        {
+            return new ConfigParser(_fallbackParser.getNestedConfigParser(prefix), nestedConfigData);
+        }
+        return new ConfigParser(_rootParser, fullPrefix, nestedConfigData);
     }
 
     public void load()
@@ -79,6 +194,35 @@ public class ConfigParser
             return;
         }
         readFilePerLines();
+        // config without nested objects never needs an index
+        _prefixIndex = null;
+    }
+
+    private Map<String, Map<String, String>> getPrefixIndex()
+    {
+        Map<String, Map<String, String>> prefixIndex = _prefixIndex;
+        if (prefixIndex == null)
+        {   // concurrent callers can build same index twice - result is equal
+            prefixIndex = buildPrefixIndex(_parsedConfigData);
+            _prefixIndex = prefixIndex;
+        }
+        return prefixIndex;
+    }
+
+    private static Map<String, Map<String, String>> buildPrefixIndex(Map<String, String> parsedConfigData)
+    {
+        Map<String, Map<String, String>> prefixIndex = new HashMap<>();
+        for (Map.Entry<String, String> entry : parsedConfigData.entrySet())
+        {
+            String key = entry.getKey();
+            int dotIndex = key.indexOf('.');
+            while (dotIndex > 0 && dotIndex < (key.length() - 1))
+            {
+                prefixIndex.computeIfAbsent(key.substring(0, dotIndex), k -> new HashMap<>()).put(key.substring(dotIndex + 1), entry.getValue());
+                dotIndex = key.indexOf('.', dotIndex + 1);
+            }
+        }
+        return prefixIndex;
     }
 
     private void readFilePerLines()
@@ -0,0 +1,232 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.configparser.model;
+
+import git.index.configparser.annotations.ConfigParameterVariable;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes a documented config file with default values of config class.
+ * Keys are written in declaration order, {@link ConfigParameterVariable#commentValue()} is written as comment before key.
+ * <p>Class metadata is collected once per class - next writes of same class do not use reflection.</p>
+ */
+public final class ConfigTemplateWriter
+{
+    private final static String LINE_SEPARATOR = System.lineSeparator();
+
+    private final static ClassValue<List<TemplateEntry>> TEMPLATE_ENTRIES = new ClassValue<>()
+    {
+        @Override
+        protected List<TemplateEntry> computeValue(Class<?> configClass)
+        {
+            List<TemplateEntry> templateEntries = new ArrayList<>();
+            collectEntries(configClass, "", templateEntries, new HashSet<>());
+            return Collections.unmodifiableList(templateEntries);
+        }
+    };
+
+    private ConfigTemplateWriter()
+    {
+    }
+
+    /**
+     * Writes all keys of config class into writer. Writer will not be closed.
+     */
+    public static void write(Class<?> configClass, Writer writer) throws IOException
+    {
+        writeEntries(TEMPLATE_ENTRIES.get(configClass), writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes all keys of config class into file. Existing file will be replaced.
+     */
+    public static void write(Class<?> configClass, Path configFilePath, Charset characterSet) throws IOException
+    {
+        try (Writer writer = Files.newBufferedWriter(configFilePath, characterSet))
+        {
+            write(configClass, writer);
+        }
+    }
+
+    /**
+     * Appends keys, which are missing in existing file, at the end of file. Existing lines are not changed.
+     * If file does not exist - file will be created with all keys.
+     * @return count of appended keys
+     */
+    public static int merge(Class<?> configClass, Path configFilePath, Charset characterSet) throws IOException
+    {
+        List<TemplateEntry> templateEntries = TEMPLATE_ENTRIES.get(configClass);
+        if (!Files.exists(configFilePath))
+        {
+            write(configClass, configFilePath, characterSet);
+            return templateEntries.size();
+        }
+        Set<String> existingKeys = readExistingKeys(configFilePath, characterSet);
+        List<TemplateEntry> missingEntries = new ArrayList<>();
+        for (TemplateEntry templateEntry : templateEntries)
+        {
+            if (!existingKeys.contains(templateEntry._configFieldName))
+            {
+                missingEntries.add(templateEntry);
+            }
+        }
+        if (missingEntries.isEmpty())
+        {
+            return 0;
+        }
+        boolean endsWithNewLine = endsWithNewLine(configFilePath);
+        try (Writer writer = Files.newBufferedWriter(configFilePath, characterSet, StandardOpenOption.APPEND))
+        {
+            if (!endsWithNewLine)
+            {
+                writer.write(LINE_SEPARATOR);
+            }
+            writeEntries(missingEntries, writer);
+        }
+        return missingEntries.size();
+    }
+
+    private static void writeEntries(List<TemplateEntry> templateEntries, Writer writer) throws IOException
+    {
+        for (TemplateEntry templateEntry : templateEntries)
+        {
+            templateEntry.write(writer);
+        }
+    }
+
+    private static void collectEntries(Class<?> configClass, String keyPrefix, List<TemplateEntry> templateEntries, Set<Class<?>> visitedClasses)
+    {
+        if (!visitedClasses.add(configClass))
+        {   // recursive nested objects
+            return;
+        }
+        for (Field field : configClass.getDeclaredFields())
+        {
+            ConfigParameterVariable configParameterVariable = field.getAnnotation(ConfigParameterVariable.class);
+            if ((configParameterVariable == null) || configParameterVariable.ignoredParameter() || configParameterVariable.notPresentedInConfig())
+            {
+                continue;
+            }
+            String configFieldName = keyPrefix + (configParameterVariable.parameterName().isEmpty() ? field.getName() : configParameterVariable.parameterName());
+            if (configParameterVariable.nestedObject())
+            {
+                collectEntries(field.getType(), configFieldName + ".", templateEntries, visitedClasses);
+                continue;
+            }
+            templateEntries.add(new TemplateEntry(configFieldName, configParameterVariable.defaultValue(), configParameterVariable.commentValue()));
+        }
+        visitedClasses.remove(configClass);
+    }
+
+    /**
+     * Collects keys in same way as {@link ConfigParser} - commentaries are skipped, lines ending with {@code \} are joined with next line.
+     */
+    private static Set<String> readExistingKeys(Path configFilePath, Charset characterSet) throws IOException
+    {
+        Set<String> existingKeys = new HashSet<>();
+        try (LineNumberReader lnr = new LineNumberReader(Files.newBufferedReader(configFilePath, characterSet)))
+        {
+            boolean appendNextLine = false;
+            String line = null;
+            while ((line = lnr.readLine()) != null)
+            {
+                line = line.trim();
+                if (line.isEmpty() || (line.charAt(0) == '#'))
+                {
+                    continue;
+                }
+                boolean lineStartsKey = !appendNextLine;
+                appendNextLine = line.charAt(line.length() - 1) == '\\';
+                if (!lineStartsKey)
+                {
+                    continue;
+                }
+                int separatorIndex = line.indexOf('=');
+                existingKeys.add((separatorIndex == -1) ? line : line.substring(0, separatorIndex).trim());
+            }
+        }
+        return existingKeys;
+    }
+
+    private static boolean endsWithNewLine(Path configFilePath) throws IOException
+    {
+        if (Files.size(configFilePath) == 0)
+        {
+            return true;
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(configFilePath))
+        {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1);
+            channel.read(lastByte);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    private final static class TemplateEntry
+    {
+        private final String _configFieldName;
+        /**
+         * Pre-formatted text of entry (comment, key and default value).
+         */
+        private final String _text;
+
+        private TemplateEntry(String configFieldName, String defaultValue, String commentValue)
+        {
+            _configFieldName = configFieldName;
+            StringBuilder text = new StringBuilder();
+            if (!commentValue.isEmpty())
+            {
+                for (String commentLine : commentValue.split("\\R"))
+                {
+                    text.append("# ").append(commentLine).append(LINE_SEPARATOR);
+                }
+            }
+            text.append(configFieldName).append(" = ").append(defaultValue).append(LINE_SEPARATOR);
+            text.append(LINE_SEPARATOR);
+            _text = text.toString();
+        }
+
+        private void write(Writer writer) throws IOException
+        {
+            writer.write(_text);
+        }
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.configparser.model;
+
+import git.index.configparser.annotations.ConfigParameterVariable;
+import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.FieldParserManager;
+import git.index.fieldparser.annotations.FieldParser;
+import git.index.fieldparser.annotations.ParserPipeline;
+import git.index.fieldparser.interfaces.IFieldChangeListener;
+import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.model.FieldChange;
+import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.FieldConstraints;
+import git.index.fieldparser.model.attributes.FieldAttributes;
+import git.index.fieldparser.model.pipeline.FieldParserPipeline;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Binder for records.
+ * <p>All components are parsed first and then canonical constructor is called through a cached {@link MethodHandle}.
+ * Every {@link #bind(ConfigParser, Object)} creates a new snapshot, so created object can be freely shared between threads.</p>
+ * <p>Components are taken in declaration order of record header - it is always the order of canonical constructor.
+ * Other classes with final fields are not bound, because order of {@link Class#getDeclaredFields()} is not specified
+ * and fields of same type can be silently swapped.</p>
+ * <p>Static non-final fields of record are loaded by {@link ConfigFieldParser}. Methods 'onStartLoad' / 'onEndLoad'
+ * are called on previous and new snapshot (or without instance - if they are static).</p>
+ * @param <T> type of immutable config
+ */
+public class ImmutableConfigBinder<T>
+{
+    private final LoggerImpl _logger;
+
+    private final Class<T> _bindingClass;
+    private final boolean _accessIntoPrivate;
+
+    private final ComponentHolder[] _components;
+    /**
+     * Canonical constructor, spread into {@code (Object[]) Object}.
+     */
+    private final MethodHandle _constructorHandle;
+
+    private final List<IFieldChangeListener> _changeListeners;
+
+    /**
+     * Returned by component, which was not parsed - component keeps a previous value.
+     */
+    private final static Object NOT_PARSED = new Object();
+
+    /**
+     * 'onStartLoad' / 'onEndLoad' methods of record, or {@code null}. Handle of instance method takes instance as first argument.
+     */
+    private final MethodHandle _onStartLoadHandle;
+    private final MethodHandle _onEndLoadHandle;
+    /**
+     * {@code true} - record has static non-final fields, marked by {@link ConfigParameterVariable}.
+     */
+    private final boolean _hasStaticConfigFields;
+    /**
+     * Parser of static fields. Parser requires an instance, so it is created with first snapshot.
+     */
+    private volatile ConfigFieldParser _staticFieldParser;
+
+    /**
+     * Registry of parsers for components. By default - global registry.
+     */
+    private volatile FieldParserManager _parserManager;
+
+    private volatile int _lastFieldCollectionCount;
+    private volatile int _lastSuccessParsedFields;
+
+    public ImmutableConfigBinder(Class<T> bindingClass, boolean accessIntoPrivate)
+    {
+        _logger = new LoggerImpl(getClass());
+        _bindingClass = bindingClass;
+        _accessIntoPrivate = accessIntoPrivate;
+        _changeListeners = new CopyOnWriteArrayList<>();
+        _parserManager = FieldParserManager.getInstance();
+
+        Field[] componentFields = getComponentFields(bindingClass);
+        if (componentFields == null)
+        {
+            throw new IllegalArgumentException("Class " + ("[" + bindingClass.getSimpleName() + "]") + " is not a record.");
+        }
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(bindingClass, MethodHandles.lookup());
+            _components = new ComponentHolder[componentFields.length];
+            Class<?>[] constructorTypes = new Class<?>[componentFields.length];
+            for (int index = 0; index < componentFields.length; index++)
+            {
+                _components[index] = new ComponentHolder(this, componentFields[index], lookup.unreflectGetter(componentFields[index]));
+                constructorTypes[index] = componentFields[index].getType();
+            }
+            Constructor<T> constructor = bindingClass.getDeclaredConstructor(constructorTypes);
+            if ((!_accessIntoPrivate) && (Modifier.isPrivate(constructor.getModifiers()) || Modifier.isProtected(constructor.getModifiers())))
+            {
+                throw new IllegalAccessException("Canonical constructor of " + ("[" + bindingClass.getSimpleName() + "]") + " is not visible. Is accessing into private fields - [NO].");
+            }
+            _constructorHandle = lookup.unreflectConstructor(constructor).asSpreader(Object[].class, componentFields.length);
+            _onStartLoadHandle = findLoadMethod(lookup, "onStartLoad");
+            _onEndLoadHandle = findLoadMethod(lookup, "onEndLoad");
+        }
+        catch (NoSuchMethodException | IllegalAccessException e)
+        {
+            _logger.error("Cannot find a canonical constructor for class " + ("[" + bindingClass.getSimpleName() + "]") + ".", e);
+            throw new IllegalArgumentException(e);
+        }
+        _hasStaticConfigFields = hasStaticConfigFields(bindingClass);
+    }
+
+    private MethodHandle findLoadMethod(MethodHandles.Lookup lookup, String methodName)
+    {
+        for (Method method : _bindingClass.getDeclaredMethods())
+        {
+            if ((!method.getName().equals(methodName)) || (method.getParameterCount() != 0))
+            {
+                continue;
+            }
+            if ((!_accessIntoPrivate) && (Modifier.isPrivate(method.getModifiers()) || Modifier.isProtected(method.getModifiers())))
+            {
+                continue;
+            }
+            try
+            {
+                return lookup.unreflect(method);
+            }
+            catch (IllegalAccessException e)
+            {
+                _logger.error("Cannot get access to method " + ("[" + methodName + "]") + ". Is accessing into private fields - " + ("[" + (_accessIntoPrivate ? "YES" : "NO") + "]") + ".", e);
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasStaticConfigFields(Class<?> bindingClass)
+    {
+        for (Field field : bindingClass.getDeclaredFields())
+        {
+            if (Modifier.isStatic(field.getModifiers()) && (!Modifier.isFinal(field.getModifiers())) && (field.getAnnotation(ConfigParameterVariable.class) != null))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param configParser loaded config parser (or nested view of it)
+     * @param previousSnapshot previous object. Values of components will be used as default values. Can be {@code null}.
+     * @return new snapshot of config, or {@code previousSnapshot}, if constructor throws error
+     */
+    @SuppressWarnings("unchecked")
+    public T bind(ConfigParser configParser, T previousSnapshot)
+    {
+        invokeLoadMethod(_onStartLoadHandle, previousSnapshot, "onStartLoad");
+        Object[] arguments = new Object[_components.length];
+        Object[] previousArguments = _changeListeners.isEmpty() ? null : new Object[_components.length];
+        int parsedCount = 0;
+        int successCount = 0;
+        for (int index = 0; index < _components.length; index++)
+        {
+            ComponentHolder componentHolder = _components[index];
+            Object defaultValue = componentHolder.getPreviousValue(previousSnapshot);
+            if (previousArguments != null)
+            {
+                previousArguments[index] = defaultValue;
+            }
+            if (componentHolder.isBindable())
+            {
+                parsedCount += 1;
+                Object parsedValue = componentHolder.parseValue(configParser, defaultValue, _parserManager);
+                if ((parsedValue != NOT_PARSED) && ((parsedValue != null) || (!componentHolder.getType().isPrimitive())))
+                {
+                    successCount += 1;
+                    defaultValue = parsedValue;
+                }
+            }
+            if ((defaultValue == null) && componentHolder.getType().isPrimitive())
+            {
+                defaultValue = componentHolder.getPrimitiveDefaultValue();
+            }
+            arguments[index] = defaultValue;
+        }
+        T nextSnapshot;
+        try
+        {
+            nextSnapshot = (T) _constructorHandle.invoke(arguments);
+        }
+        catch (Throwable t)
+        {
+            _logger.error("Cannot create a new snapshot of " + ("[" + _bindingClass.getSimpleName() + "]") + ". Using a previous value. Reason - ", t);
+            nextSnapshot = null;
+        }
+        T loadedSnapshot = (nextSnapshot == null) ? previousSnapshot : nextSnapshot;
+        ConfigFieldParser staticFieldParser = getStaticFieldParser(loadedSnapshot);
+        if (staticFieldParser != null)
+        {
+            staticFieldParser.load(configParser);
+            parsedCount += staticFieldParser.getLoadedFieldsCount();
+            successCount += staticFieldParser.getCountOfSuccessLoadedFields();
+        }
+        _lastFieldCollectionCount = parsedCount;
+        _lastSuccessParsedFields = successCount;
+        invokeLoadMethod(_onEndLoadHandle, loadedSnapshot, "onEndLoad");
+        if (nextSnapshot == null)
+        {
+            return previousSnapshot;
+        }
+        if (previousArguments != null)
+        {
+            fireFieldChanges(nextSnapshot, previousArguments, arguments);
+        }
+        return nextSnapshot;
+    }
+
+    /**
+     * @param snapshot instance for instance method. If it is {@code null} - instance method is not called.
+     */
+    private void invokeLoadMethod(MethodHandle loadMethodHandle, Object snapshot, String methodName)
+    {
+        if (loadMethodHandle == null)
+        {
+            return;
+        }
+        try
+        {
+            if (loadMethodHandle.type().parameterCount() == 0)
+            {
+                loadMethodHandle.invoke();
+            }
+            else if (snapshot != null)
+            {
+                loadMethodHandle.invoke(snapshot);
+            }
+        }
+        catch (Throwable t)
+        {
+            _logger.error("Cannot invoke " + ("'" + methodName + "'") + " method.", t);
+        }
+    }
+
+    private ConfigFieldParser getStaticFieldParser(T snapshot)
+    {
+        ConfigFieldParser staticFieldParser = _staticFieldParser;
+        if ((staticFieldParser != null) || (!_hasStaticConfigFields) || (snapshot == null))
+        {
+            return staticFieldParser;
+        }
+        synchronized (this)
+        {
+            if (_staticFieldParser == null)
+            {   // final fields of record are skipped by parser - only static fields are loaded
+                staticFieldParser = new ConfigFieldParser(snapshot, _accessIntoPrivate, false);
+                staticFieldParser.setInvokeLoadMethods(false);
+                staticFieldParser.setParserManager(_parserManager);
+                for (IFieldChangeListener changeListener : _changeListeners)
+                {
+                    staticFieldParser.addChangeListener(changeListener);
+                }
+                _staticFieldParser = staticFieldParser;
+            }
+            return _staticFieldParser;
+        }
+    }
+
+    private void fireFieldChanges(T nextSnapshot, Object[] previousArguments, Object[] arguments)
+    {
+        List<FieldChange> fieldChanges = null;
+        for (int index = 0; index < _components.length; index++)
+        {
+            if ((!_components[index].isBindable()) || (!FieldChange.isChanged(previousArguments[index], arguments[index])))
+            {
+                continue;
+            }
+            if (fieldChanges == null)
+            {
+                fieldChanges = new ArrayList<>();
+            }
+            fieldChanges.add(new FieldChange(_components[index].getField(), previousArguments[index], arguments[index]));
+        }
+        if (fieldChanges == null)
+        {
+            return;
+        }
+        List<FieldChange> readOnlyChanges = Collections.unmodifiableList(fieldChanges);
+        for (IFieldChangeListener changeListener : _changeListeners)
+        {
+            try
+            {
+                changeListener.onFieldsChanged(nextSnapshot, readOnlyChanges);
+            }
+            catch (Throwable t)
+            {
+                _logger.error("Change listener " + ("[" + changeListener.getClass().getSimpleName() + "]") + " throws error.", t);
+            }
+        }
+    }
+
+    public synchronized void addChangeListener(IFieldChangeListener changeListener)
+    {
+        _changeListeners.add(changeListener);
+        if (_staticFieldParser != null)
+        {
+            _staticFieldParser.addChangeListener(changeListener);
+        }
+    }
+
+    public synchronized void removeChangeListener(IFieldChangeListener changeListener)
+    {
+        _changeListeners.remove(changeListener);
+        if (_staticFieldParser != null)
+        {
+            _staticFieldParser.removeChangeListener(changeListener);
+        }
+    }
+
+    /**
+     * @param parserManager registry of parsers, also used by nested binders. {@code null} - global registry
+     */
+    public void setParserManager(FieldParserManager parserManager)
+    {
+        _parserManager = (parserManager == null) ? FieldParserManager.getInstance() : parserManager;
+        if (_staticFieldParser != null)
+        {
+            _staticFieldParser.setParserManager(parserManager);
+        }
+        for (ComponentHolder componentHolder : _components)
+        {
+            if (componentHolder._nestedBinder != null)
+            {
+                componentHolder._nestedBinder.setParserManager(parserManager);
+            }
+        }
+    }
+
+    public FieldParserManager getParserManager()
+    {
+        return _parserManager;
+    }
+
+    public Class<T> getBindingClass()
+    {
+        return _bindingClass;
+    }
+
+    public int getLoadedFieldsCount()
+    {
+        return _lastFieldCollectionCount;
+    }
+
+    public int getCountOfSuccessLoadedFields()
+    {
+        return _lastSuccessParsedFields;
+    }
+
+    /**
+     * @return {@code true} - if class is a record and should be bound by canonical constructor instead of field assignation
+     */
+    public static boolean isImmutableClass(Class<?> bindingClass)
+    {
+        return getComponentFields(bindingClass) != null;
+    }
+
+    private static Field[] getComponentFields(Class<?> bindingClass)
+    {
+        if ((bindingClass == null) || bindingClass.isPrimitive() || bindingClass.isArray() || bindingClass.isInterface() || bindingClass.isEnum())
+        {
+            return null;
+        }
+        if (!bindingClass.isRecord())
+        {
+            return null;
+        }
+        RecordComponent[] recordComponents = bindingClass.getRecordComponents();
+        Field[] componentFields = new Field[recordComponents.length];
+        for (int index = 0; index < recordComponents.length; index++)
+        {
+            try
+            {
+                componentFields[index] = bindingClass.getDeclaredField(recordComponents[index].getName());
+            }
+            catch (NoSuchFieldException e)
+            {   // record always have a private field per component
+                return null;
+            }
+        }
+        return componentFields;
+    }
+
+    private final static class ComponentHolder
+    {
+        private final LoggerImpl _logger;
+
+        private final Field _field;
+        private final MethodHandle _getterHandle;
+        private final Object _primitiveDefaultValue;
+
+        private final ConfigParameterVariable _configParameterVariable;
+        private final String _configFieldName;
+        private final String _configFieldDefaultValue;
+        private final FieldClassRef<Object> _fieldClassRef;
+        /**
+         * Binder of nested immutable object. Only for {@link ConfigParameterVariable#nestedObject()}.
+         */
+        private final ImmutableConfigBinder<Object> _nestedBinder;
+        private final FieldConstraints _constraints;
+        private final ParserPipeline _parserPipeline;
+        private volatile IFieldParser<?> _pipelineParser;
+        private volatile IFieldParser<?> _pipelineSourceParser;
+
+        @SuppressWarnings("unchecked")
+        private ComponentHolder(ImmutableConfigBinder<?> binder, Field field, MethodHandle getterHandle)
+        {
+            _logger = binder._logger;
+            _field = field;
+            _getterHandle = getterHandle;
+            _primitiveDefaultValue = field.getType().isPrimitive() ? Array.get(Array.newInstance(field.getType(), 1), 0) : null;
+
+            ConfigParameterVariable configParameterVariable = field.getAnnotation(ConfigParameterVariable.class);
+            if ((configParameterVariable != null) && configParameterVariable.ignoredParameter())
+            {
+                configParameterVariable = null;
+            }
+            _configParameterVariable = configParameterVariable;
+            _constraints = FieldConstraints.compile(field);
+            _parserPipeline = field.getAnnotation(ParserPipeline.class);
+            if (configParameterVariable == null)
+            {
+                _configFieldName = null;
+                _configFieldDefaultValue = null;
+                _fieldClassRef = null;
+                _nestedBinder = null;
+                return;
+            }
+            _configFieldName = configParameterVariable.parameterName().isEmpty() ? field.getName() : configParameterVariable.parameterName();
+            _configFieldDefaultValue = configParameterVariable.defaultValue().isEmpty() ? null : configParameterVariable.defaultValue();
+
+            FieldParser fieldParserAnnotation = configParameterVariable.fieldParser();
+            if (!fieldParserAnnotation.parseFieldMethod().isEmpty())
+            {
+                _logger.warn("Field " + ("[" + field.getName() + "]") + " of immutable config " + ("[" + binder.getBindingClass().getSimpleName() + "]") + " declares a 'parse field method', which cannot be used with canonical constructor. Field will be parsed by 'FieldParser'.");
+            }
+            Class<?> fieldClass = (fieldParserAnnotation.classType() == Object.class) ? field.getType() : fieldParserAnnotation.classType();
+            _fieldClassRef = new FieldClassRef<>(fieldClass, fieldParserAnnotation.genericClasses());
+            if (!configParameterVariable.spliterator01().isEmpty())
+            {
+                _fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_01, Pattern.compile(configParameterVariable.spliterator01()));
+            }
+            if (!configParameterVariable.spliterator02().isEmpty())
+            {
+                _fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_02, Pattern.compile(configParameterVariable.spliterator02()));
+            }
+            if (fieldParserAnnotation.unmodifiable())
+            {
+                _fieldClassRef.withAttribute(FieldAttributes.UNMODIFIABLE, Boolean.TRUE);
+            }
+            if (fieldParserAnnotation.timeUnit().length != 0)
+            {
+                _fieldClassRef.withAttribute(FieldAttributes.TIME_UNIT, fieldParserAnnotation.timeUnit()[0]);
+            }
+            if (!configParameterVariable.spliterator03().isEmpty())
+            {
+                _fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_03, Pattern.compile(configParameterVariable.spliterator03()));
+            }
+            if (!configParameterVariable.spliterator04().isEmpty())
+            {
+                _fieldClassRef.withAttribute(FieldAttributes.SPLIT_PATTERN_04, Pattern.compile(configParameterVariable.spliterator04()));
+            }
+            _nestedBinder = configParameterVariable.nestedObject() ? new ImmutableConfigBinder<>((Class<Object>) fieldClass, binder._accessIntoPrivate) : null;
+        }
+
+        public Field getField()
+        {
+            return _field;
+        }
+
+        @SuppressWarnings("unchecked")
+        private IFieldParser<?> getPipelineParser(IFieldParser<?> sourceParser)
+        {
+            IFieldParser<?> pipelineParser = _pipelineParser;
+            if ((pipelineParser == null) || (_pipelineSourceParser != sourceParser))
+            {
+                pipelineParser = FieldParserPipeline.fromAnnotation((Class<Object>) _fieldClassRef.getRawClass(), _parserPipeline, sourceParser);
+                _pipelineParser = pipelineParser;
+                _pipelineSourceParser = sourceParser;
+            }
+            return pipelineParser;
+        }
+
+        public Class<?> getType()
+        {
+            return _field.getType();
+        }
+
+        public boolean isBindable()
+        {
+            return _configParameterVariable != null;
+        }
+
+        public Object getPrimitiveDefaultValue()
+        {
+            return _primitiveDefaultValue;
+        }
+
+        public Object getPreviousValue(Object previousSnapshot)
+        {
+            if (previousSnapshot == null)
+            {
+                return null;
+            }
+            try
+            {
+                return _getterHandle.invoke(previousSnapshot);
+            }
+            catch (Throwable t)
+            {
+                return null;
+            }
+        }
+
+        /**
+         * @return parsed value, or {@link #NOT_PARSED} - if parser is not found or value violates constraints
+         */
+        public Object parseValue(ConfigParser configParser, Object defaultValue, FieldParserManager parserManager)
+        {
+            if (_nestedBinder != null)
+            {
+                return _nestedBinder.bind(configParser.getNestedConfigParser(_configFieldName), defaultValue);
+            }
+            FieldClassRef<Object> fieldClassRef = _fieldClassRef;
+            if (parserManager != FieldParserManager.getInstance())
+            {   // reference is shared between binds - registry is set into a copy
+                fieldClassRef = _fieldClassRef.createSubReference(_fieldClassRef.getRawClass(), _fieldClassRef.getActualClassArguments());
+                fieldClassRef.withAttribute(FieldAttributes.PARSER_MANAGER, parserManager);
+            }
+            IFieldParser<?> fieldParser = parserManager.applyParserFromClass(fieldClassRef.getRawClass());
+            if (fieldParser == null)
+            {
+                _logger.error("Cannot parse a field " + ("[" + _field.getName() + "]") + " because parser of class " + ("[" + _fieldClassRef.getRawClass().getSimpleName() + "]") + " is not supported!");
+                return NOT_PARSED;
+            }
+            if (_parserPipeline != null)
+            {
+                fieldParser = getPipelineParser(fieldParser);
+            }
+            String rawStringFieldValue = configParser.getValueByKey(_configFieldName, _configFieldDefaultValue);
+            Object parsedValue = fieldParser.parseValue(rawStringFieldValue, fieldClassRef, defaultValue);
+            if ((_constraints != null) && (!_constraints.test(parsedValue)))
+            {
+                _logger.error("Value " + ("[" + parsedValue + "]") + " of field " + ("[" + _field.getName() + "]") + " violates " + _constraints + ". Field keeps a previous value.");
+                return NOT_PARSED;
+            }
+            return parsedValue;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.configparser.model;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed values of base config, which are shared by reference between many instances of same config class.
+ * Only immutable values are stored - mutable values (collections, arrays) are parsed for every instance.
+ */
+public final class SharedParsedValues
+{
+    private final Map<Field, SharedValue> _sharedValues;
+
+    public SharedParsedValues()
+    {
+        _sharedValues = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return parsed value, if it was parsed before from same raw value, otherwise {@code null}
+     */
+    public Object getValue(Field field, String rawValue)
+    {
+        SharedValue sharedValue = _sharedValues.get(field);
+        if ((sharedValue == null) || (!sharedValue._rawValue.equals(rawValue)))
+        {
+            return null;
+        }
+        return sharedValue._parsedValue;
+    }
+
+    public void putValue(Field field, String rawValue, Object parsedValue)
+    {
+        if ((rawValue == null) || (!isShareable(parsedValue)))
+        {
+            return;
+        }
+        _sharedValues.putIfAbsent(field, new SharedValue(rawValue, parsedValue));
+    }
+
+    public void clear()
+    {
+        _sharedValues.clear();
+    }
+
+    /**
+     * @return {@code true} - if object cannot be changed, so it can be assigned into many instances
+     */
+    public static boolean isShareable(Object parsedValue)
+    {
+        if (parsedValue == null)
+        {
+            return false;
+        }
+        Class<?> valueClass = parsedValue.getClass();
+        return (valueClass == String.class)
+                || (valueClass == Integer.class) || (valueClass == Long.class) || (valueClass == Double.class) || (valueClass == Float.class)
+                || (valueClass == Short.class) || (valueClass == Byte.class) || (valueClass == Boolean.class) || (valueClass == Character.class)
+                || (valueClass == BigDecimal.class) || (valueClass == BigInteger.class)
+                || (parsedValue instanceof Enum)
+                || (valueClass == Pattern.class) || (valueClass == File.class) || (parsedValue instanceof Path);
+    }
+
+    private final static class SharedValue
+    {
+        private final String _rawValue;
+        private final Object _parsedValue;
+
+        private SharedValue(String rawValue, Object parsedValue)
+        {
+            _rawValue = rawValue;
+            _parsedValue = parsedValue;
+        }
+    }
+}
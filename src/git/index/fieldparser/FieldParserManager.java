@@ -23,13 +23,20 @@
  */
 package git.index.fieldparser;
 
+import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.annotations.ParsableClasses;
 import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.attributes.FieldAttributes;
+import git.index.fieldparser.model.parsers.ArrayMultiDimensionParser;
 import git.index.fieldparser.model.parsers.ArrayOneDimensionParser;
 import git.index.fieldparser.model.parsers.ArrayTwoDimensionParser;
 import git.index.fieldparser.model.parsers.BooleanParser;
 import git.index.fieldparser.model.parsers.CollectionParser;
 import git.index.fieldparser.model.parsers.EnumParser;
+import git.index.fieldparser.model.parsers.EnumSetParser;
 import git.index.fieldparser.model.parsers.FileParser;
+import git.index.fieldparser.model.parsers.MapParser;
 import git.index.fieldparser.model.parsers.PatternParser;
 import git.index.fieldparser.model.parsers.StringParser;
 import git.index.fieldparser.model.parsers.numbers.NumberByteParser;
@@ -40,87 +47,243 @@ import git.index.fieldparser.model.parsers.numbers.NumberLongParser;
 import git.index.fieldparser.model.parsers.numbers.NumberShortParser;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 public class FieldParserManager
 {
-    private final Map<Class<?>, IFieldParser<?>> _parsersMap;
+    /**
+     * Dimension of array, from which parser of arrays can parse arrays with more dimensions.
+     */
+    private final static int MIN_MULTI_DIMENSION = 3;
 
-    private final Map<Integer, IFieldParser<?>> _arraysParsers;
+    /**
+     * Supertypes, which field can be parsed by parser of registered subtype. Key - type of field, value - registered subtype.
+     * Only explicit pairs - otherwise marker interfaces (like {@code Cloneable}) will be resolved into a random parser.
+     */
+    private final static Map<Class<?>, Class<?>> SUBTYPE_PARSERS = Map.of(CharSequence.class, String.class);
 
-    private Function<Class<?>, IFieldParser<?>> _parserObtainer;
+    private final LoggerImpl _logger;
+
+    /**
+     * Registry, which used for classes without parser in this registry. {@code null} for global registry.
+     */
+    private final FieldParserManager _parentManager;
+
+    /**
+     * Current registry. Registry is never changed - {@link #addParserIntoMap} replaces it by a changed copy.
+     */
+    private volatile ParserRegistry _registry;
+
+    private volatile Function<Class<?>, IFieldParser<?>> _parserObtainer;
 
     private FieldParserManager()
     {
-        _parsersMap = new HashMap<>();
-
-        _parsersMap.put(String.class, StringParser.getInstance());
-        _parsersMap.put(Pattern.class, PatternParser.getInstance());
-
-        _parsersMap.put(File.class, FileParser.getInstance());
-        _parsersMap.put(Enum.class, EnumParser.getInstance());
-        _parsersMap.put(Collection.class, CollectionParser.getInstance());
-
-        BooleanParser booleanParser = BooleanParser.getInstance();
-        _parsersMap.put(Boolean.class, booleanParser);
-        _parsersMap.put(boolean.class, booleanParser);
-
-        NumberByteParser byteParser = NumberByteParser.getInstance();
-        _parsersMap.put(Byte.class, byteParser);
-        _parsersMap.put(byte.class, byteParser);
-        NumberShortParser shortParser = NumberShortParser.getInstance();
-        _parsersMap.put(Short.class, shortParser);
-        _parsersMap.put(short.class, shortParser);
-        NumberFloatParser floatParser = NumberFloatParser.getInstance();
-        _parsersMap.put(Float.class, floatParser);
-        _parsersMap.put(float.class, floatParser);
-        NumberDoubleParser doubleParser = NumberDoubleParser.getInstance();
-        _parsersMap.put(Double.class, doubleParser);
-        _parsersMap.put(double.class, doubleParser);
-        NumberIntegerParser integerParser = NumberIntegerParser.getInstance();
-        _parsersMap.put(Integer.class, integerParser);
-        _parsersMap.put(int    .class, integerParser);
-        NumberLongParser longParser = NumberLongParser.getInstance();
-        _parsersMap.put(Long.class, longParser);
-        _parsersMap.put(long.class, longParser);
-
-        _arraysParsers = new HashMap<>(5);
-
-        ArrayOneDimensionParser oneDimensionParser = ArrayOneDimensionParser.getInstance();
-        _arraysParsers.put(IFieldParser.getDimensionsOfArray(oneDimensionParser.getParsableClass()), oneDimensionParser);
-        ArrayTwoDimensionParser twoDimensionParser = ArrayTwoDimensionParser.getInstance();
-        _arraysParsers.put(IFieldParser.getDimensionsOfArray(twoDimensionParser.getParsableClass()), twoDimensionParser);
+        _logger = new LoggerImpl(getClass());
+        _parentManager = null;
+
+        Map<Class<?>, ParserEntry> parsersMap = new LinkedHashMap<>();
+        Map<Integer, ParserEntry> arraysParsers = new HashMap<>(5);
+
+        // built-in parsers are created on first request of its class
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(StringParser::getInstance), true, String.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(PatternParser::getInstance), true, Pattern.class);
+
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(FileParser::getInstance), true, File.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(EnumParser::getInstance), true, Enum.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(EnumSetParser::getInstance), true, EnumSet.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(CollectionParser::getInstance), true, Collection.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(MapParser::getInstance), true, Map.class);
+
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(BooleanParser::getInstance), true, Boolean.class, boolean.class);
+
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(NumberByteParser::getInstance), true, Byte.class, byte.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(NumberShortParser::getInstance), true, Short.class, short.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(NumberFloatParser::getInstance), true, Float.class, float.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(NumberDoubleParser::getInstance), true, Double.class, double.class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(NumberIntegerParser::getInstance), true, Integer.class, int    .class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(NumberLongParser::getInstance), true, Long.class, long.class);
+
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(ArrayOneDimensionParser::getInstance), true, Object[].class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(ArrayTwoDimensionParser::getInstance), true, Object[][].class);
+        putParserEntry(parsersMap, arraysParsers, new ParserEntry(ArrayMultiDimensionParser::getInstance), true, Object[][][].class);
+
+        discoverServiceParsers(parsersMap, arraysParsers, ServiceLoader.load(IFieldParser.class));
+
+        _registry = new ParserRegistry(parsersMap, arraysParsers, null);
+
+        _parserObtainer = this::getParserByFieldType;
+    }
+
+    private FieldParserManager(FieldParserManager parentManager)
+    {
+        _logger = parentManager._logger;
+        _parentManager = parentManager;
+
+        _registry = new ParserRegistry(Collections.emptyMap(), Collections.emptyMap(), parentManager.getRegistry());
 
         _parserObtainer = this::getParserByFieldType;
     }
 
+    /**
+     * Creates registry, which can override parsers of this registry without changing it.
+     * Classes without parser in child registry are resolved by this registry (not by {@link #overrideApplyFunction} of this registry).
+     * Changes of this registry are visible in child registry.
+     * <p>Child registry can be used by {@link git.index.fieldparser.model.fieldparser.AbstractFieldParser#setParserManager}.</p>
+     */
+    public FieldParserManager createChildRegistry()
+    {
+        return new FieldParserManager(this);
+    }
+
+    public FieldParserManager getParentManager()
+    {
+        return _parentManager;
+    }
+
+    /**
+     * @return registry, set into attributes of reference by {@link FieldAttributes#PARSER_MANAGER}, or global registry
+     */
+    public static FieldParserManager getManager(FieldClassRef<?> fieldClassRef)
+    {
+        if (fieldClassRef == null)
+        {
+            return INSTANCE;
+        }
+        return fieldClassRef.getAttribute(FieldAttributes.PARSER_MANAGER, INSTANCE);
+    }
+
+    /**
+     * @return current registry. For child registry - rebuilt with empty cache, if parent registry was changed.
+     */
+    private ParserRegistry getRegistry()
+    {
+        ParserRegistry registry = _registry;
+        if ((_parentManager == null) || (registry._parentRegistry == _parentManager.getRegistry()))
+        {
+            return registry;
+        }
+        synchronized (this)
+        {
+            registry = _registry;
+            ParserRegistry parentRegistry = _parentManager.getRegistry();
+            if (registry._parentRegistry != parentRegistry)
+            {
+                registry = new ParserRegistry(registry._parsersMap, registry._arraysParsers, parentRegistry);
+                _registry = registry;
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Registry is copied on every change, so this method should be used on startup, not on every parse.
+     */
     public void addParserIntoMap(Class<?> parsableClass, IFieldParser<?> fieldParser, boolean replace)
     {
         if (parsableClass == null)
         {
             parsableClass = fieldParser.getParsableClass();
         }
-        if (parsableClass.isArray())
+        addLazyParserIntoMap(parsableClass, () -> fieldParser, replace);
+    }
+
+    /**
+     * Parser will be created by supplier, when its class is requested first time.
+     * @param parsableClass class (or array class - for parsers of arrays by dimension), which parsed by parser
+     */
+    public synchronized void addLazyParserIntoMap(Class<?> parsableClass, Supplier<? extends IFieldParser<?>> parserSupplier, boolean replace)
+    {
+        ParserRegistry registry = getRegistry();
+        Map<Class<?>, ParserEntry> parsersMap = new LinkedHashMap<>(registry._parsersMap);
+        Map<Integer, ParserEntry> arraysParsers = new HashMap<>(registry._arraysParsers);
+        if (!putParserEntry(parsersMap, arraysParsers, new ParserEntry(parserSupplier), replace, parsableClass))
+        {
+            return;
+        }
+        // new registry has empty resolution cache
+        _registry = new ParserRegistry(parsersMap, arraysParsers, registry._parentRegistry);
+    }
+
+    /**
+     * Registers parsers from {@code META-INF/services/git.index.fieldparser.interfaces.IFieldParser} of class loader.
+     * Parsers should be annotated by {@link ParsableClasses} - they are created on first request of their classes.
+     * Parsers without annotation are skipped.
+     */
+    public synchronized void discoverParsers(ClassLoader classLoader)
+    {
+        ParserRegistry registry = getRegistry();
+        Map<Class<?>, ParserEntry> parsersMap = new LinkedHashMap<>(registry._parsersMap);
+        Map<Integer, ParserEntry> arraysParsers = new HashMap<>(registry._arraysParsers);
+        if (discoverServiceParsers(parsersMap, arraysParsers, ServiceLoader.load(IFieldParser.class, classLoader)))
         {
-            int dimension = IFieldParser.getDimensionsOfArray(parsableClass);
-            if (_arraysParsers.containsKey(dimension) && (!replace))
+            _registry = new ParserRegistry(parsersMap, arraysParsers, registry._parentRegistry);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private boolean discoverServiceParsers(Map<Class<?>, ParserEntry> parsersMap, Map<Integer, ParserEntry> arraysParsers, ServiceLoader<IFieldParser> serviceLoader)
+    {
+        boolean changed = false;
+        try
+        {
+            for (ServiceLoader.Provider<IFieldParser> provider : serviceLoader.stream().toList())
             {
-                return;
+                ParsableClasses parsableClasses = provider.type().getAnnotation(ParsableClasses.class);
+                if (parsableClasses == null)
+                {   // classes of parser are unknown without creating it - and discovering should not run code of foreign parsers
+                    _logger.warn("Parser " + ("[" + provider.type().getName() + "]") + " is not annotated by " + ("[" + ParsableClasses.class.getSimpleName() + "]") + " and will be skipped. Annotate it or register it by 'addParserIntoMap'.");
+                    continue;
+                }
+                changed |= putParserEntry(parsersMap, arraysParsers, new ParserEntry(provider::get), parsableClasses.replace(), parsableClasses.value());
             }
-            _arraysParsers.put(dimension, fieldParser);
         }
-        else
+        catch (ServiceConfigurationError e)
         {
-            if (_parsersMap.containsKey(parsableClass) && (!replace))
+            _logger.error("Cannot discover field parsers. Reason - ", e);
+        }
+        return changed;
+    }
+
+    private static boolean putParserEntry(Map<Class<?>, ParserEntry> parsersMap, Map<Integer, ParserEntry> arraysParsers, ParserEntry parserEntry, boolean replace, Class<?>... parsableClasses)
+    {
+        boolean changed = false;
+        for (Class<?> parsableClass : parsableClasses)
+        {
+            if (parsableClass.isArray())
+            {
+                int dimension = IFieldParser.getDimensionsOfArray(parsableClass);
+                if (arraysParsers.containsKey(dimension) && (!replace))
+                {
+                    continue;
+                }
+                arraysParsers.put(dimension, parserEntry);
+            }
+            else
             {
-                return;
+                if (parsersMap.containsKey(parsableClass) && (!replace))
+                {
+                    continue;
+                }
+                parsersMap.put(parsableClass, parserEntry);
             }
-            _parsersMap.put(parsableClass, fieldParser);
+            changed = true;
         }
+        return changed;
     }
 
     public IFieldParser<?> applyParserFromClass(Class<?> fieldParserClass)
@@ -146,25 +309,168 @@ public class FieldParserManager
         {
             return null;
         }
-        if (fieldParserClass.isArray())
+        return getRegistry()._resolvedParsers.get(fieldParserClass).orElse(null);
+    }
+
+    /**
+     * Parser, which is created on first request. Entry is shared between registry copies, so parser is created only once.
+     */
+    private final static class ParserEntry
+    {
+        private final Supplier<? extends IFieldParser<?>> _parserSupplier;
+        private volatile IFieldParser<?> _fieldParser;
+
+        private ParserEntry(Supplier<? extends IFieldParser<?>> parserSupplier)
         {
-            int dimension = IFieldParser.getDimensionsOfArray(fieldParserClass);
-            return _arraysParsers.getOrDefault(dimension, null);
+            _parserSupplier = parserSupplier;
         }
-        if (fieldParserClass.isEnum())
+
+        private IFieldParser<?> getParser()
         {
-            return _parsersMap.getOrDefault(Enum.class, null);
+            IFieldParser<?> fieldParser = _fieldParser;
+            if (fieldParser != null)
+            {
+                return fieldParser;
+            }
+            synchronized (this)
+            {
+                if (_fieldParser == null)
+                {
+                    _fieldParser = _parserSupplier.get();
+                }
+                return _fieldParser;
+            }
         }
-        IFieldParser<?> fieldParser = _parsersMap.getOrDefault(fieldParserClass, null);
-        if (fieldParser != null)
+    }
+
+    /**
+     * Immutable state of registered parsers with cache of resolved parser per class.
+     */
+    private final class ParserRegistry
+    {
+        private final Map<Class<?>, ParserEntry> _parsersMap;
+        private final Map<Integer, ParserEntry> _arraysParsers;
+        /**
+         * Registry of parent manager, which was actual on creating of this registry.
+         */
+        private final ParserRegistry _parentRegistry;
+
+        private final ClassValue<Optional<IFieldParser<?>>> _resolvedParsers = new ClassValue<>()
         {
-            return fieldParser;
+            @Override
+            protected Optional<IFieldParser<?>> computeValue(Class<?> fieldParserClass)
+            {
+                ParserEntry parserEntry = resolveParser(fieldParserClass);
+                if (parserEntry == null)
+                {
+                    return (_parentRegistry == null) ? Optional.empty() : _parentRegistry._resolvedParsers.get(fieldParserClass);
+                }
+                try
+                {
+                    return Optional.ofNullable(parserEntry.getParser());
+                }
+                catch (RuntimeException | ServiceConfigurationError e)
+                {
+                    _logger.error("Cannot create a parser for class " + ("[" + fieldParserClass.getSimpleName() + "]") + ". Reason - ", e);
+                    return Optional.empty();
+                }
+            }
+        };
+
+        private ParserRegistry(Map<Class<?>, ParserEntry> parsersMap, Map<Integer, ParserEntry> arraysParsers, ParserRegistry parentRegistry)
+        {
+            _parsersMap = Collections.unmodifiableMap(parsersMap);
+            _arraysParsers = Collections.unmodifiableMap(arraysParsers);
+            _parentRegistry = parentRegistry;
         }
-        if (Collection.class.isAssignableFrom(fieldParserClass))
+
+        /**
+         * Order of resolution:
+         * <ol>
+         *   <li>parser, registered exactly for class (or for dimension of array);</li>
+         *   <li>parser of nearest superclass;</li>
+         *   <li>parser of interface - interfaces are checked by levels, from nearest to farthest;</li>
+         *   <li>parser of registered subtype of class from {@link #SUBTYPE_PARSERS} ({@code CharSequence} -> {@code String}).</li>
+         * </ol>
+         */
+        private ParserEntry resolveParser(Class<?> fieldParserClass)
         {
-            return _parsersMap.getOrDefault(Collection.class, null);
+            if (fieldParserClass.isArray())
+            {
+                return resolveArrayParser(IFieldParser.getDimensionsOfArray(fieldParserClass));
+            }
+            ParserEntry parserEntry = _parsersMap.getOrDefault(fieldParserClass, null);
+            if (parserEntry != null)
+            {
+                return parserEntry;
+            }
+            for (Class<?> superClass = fieldParserClass.getSuperclass(); (superClass != null) && (superClass != Object.class); superClass = superClass.getSuperclass())
+            {
+                parserEntry = _parsersMap.getOrDefault(superClass, null);
+                if (parserEntry != null)
+                {
+                    return parserEntry;
+                }
+            }
+            parserEntry = resolveInterfaceParser(fieldParserClass);
+            if (parserEntry != null)
+            {
+                return parserEntry;
+            }
+            return resolveSubtypeParser(fieldParserClass);
+        }
+
+        /**
+         * Parser of arrays with {@value #MIN_MULTI_DIMENSION} or more dimensions is also used for arrays with more dimensions.
+         */
+        private ParserEntry resolveArrayParser(int dimension)
+        {
+            ParserEntry parserEntry = _arraysParsers.getOrDefault(dimension, null);
+            for (int lowerDimension = dimension - 1; (parserEntry == null) && (lowerDimension >= MIN_MULTI_DIMENSION); lowerDimension--)
+            {
+                parserEntry = _arraysParsers.getOrDefault(lowerDimension, null);
+            }
+            return parserEntry;
+        }
+
+        private ParserEntry resolveInterfaceParser(Class<?> fieldParserClass)
+        {
+            List<Class<?>> currentLevel = new ArrayList<>();
+            for (Class<?> checkClass = fieldParserClass; checkClass != null; checkClass = checkClass.getSuperclass())
+            {
+                Collections.addAll(currentLevel, checkClass.getInterfaces());
+            }
+            Set<Class<?>> visitedInterfaces = new HashSet<>();
+            while (!currentLevel.isEmpty())
+            {
+                List<Class<?>> nextLevel = new ArrayList<>();
+                for (Class<?> interfaceClass : currentLevel)
+                {
+                    if (!visitedInterfaces.add(interfaceClass))
+                    {
+                        continue;
+                    }
+                    ParserEntry parserEntry = _parsersMap.getOrDefault(interfaceClass, null);
+                    if (parserEntry != null)
+                    {
+                        return parserEntry;
+                    }
+                    Collections.addAll(nextLevel, interfaceClass.getInterfaces());
+                }
+                currentLevel = nextLevel;
+            }
+            return null;
+        }
+
+        private ParserEntry resolveSubtypeParser(Class<?> fieldParserClass)
+        {
+            Class<?> subtypeClass = SUBTYPE_PARSERS.getOrDefault(fieldParserClass, null);
+            if (subtypeClass == null)
+            {
+                return null;
+            }
+            return _parsersMap.getOrDefault(subtypeClass, null);
         }
-        return null;
     }
 
     private final static FieldParserManager INSTANCE = new FieldParserManager();
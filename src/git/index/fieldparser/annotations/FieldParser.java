@@ -27,6 +27,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 @Target(ElementType.FIELD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -41,6 +42,21 @@ public @interface FieldParser
      */
     Class<?>[] genericClasses() default {};
 
+    /**
+     * Parsed value will be read-only (supported by maps - field should have a {@code Map} / {@code SortedMap} / {@code NavigableMap} type).
+     * @return is parsed value read-only
+     */
+    boolean unmodifiable() default false;
+
+    /**
+     * Numbers can have a time suffix ({@code ms}, {@code s}, {@code m}, {@code h}) - value will be converted into this unit.
+     * For example, {@code 2m} will be parsed as {@code 120000} for milliseconds and as {@code 120} for seconds.
+     * Integer value, which cannot be converted without a fraction ({@code 1500ms} for seconds), is rejected.
+     * Numbers without time unit do not accept time suffixes. Only first unit is used ({@code timeUnit = TimeUnit.SECONDS}).
+     * @return unit, in which number field is stored, or empty array - if field is not a time value
+     */
+    TimeUnit[] timeUnit() default {};
+
     /**
      * Returns the name of the method that will be used to parse configuration values.
      * <p>The method must meet the following requirements:</p>
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares normalization of raw value before parsing by registered parser of field class.
+ * Pipeline is built once per field. Validation is declared by constraint annotations
+ * ({@code NumberRange}, {@code MatchPattern}, ...).
+ * <p>Example - {@code @ParserPipeline(charCase = CharCase.LOWER, cacheSize = 64)} for enum field.</p>
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ParserPipeline
+{
+    enum CharCase
+    {
+        NONE,
+        LOWER,
+        UPPER,
+    }
+
+    /**
+     * @return remove whitespaces from start and end of value
+     */
+    boolean trim() default true;
+
+    CharCase charCase() default CharCase.NONE;
+
+    /**
+     * @return characters, which will be removed from value
+     */
+    String removeCharacters() default "";
+
+    /**
+     * Parsed values are cached by raw value. Parsed values should be immutable.
+     * @return max count of cached values, {@code 0} - without cache
+     */
+    int cacheSize() default 0;
+}
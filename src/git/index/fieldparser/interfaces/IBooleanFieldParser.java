@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.interfaces;
+
+import java.text.ParsePosition;
+
+/**
+ * Parser of {@code boolean} values without boxing. Used for fields with primitive type.
+ */
+public interface IBooleanFieldParser
+{
+    /**
+     * @param value raw value (can be {@code null}). Can be a reused view over a part of bigger value - reference on it should not be kept
+     * @param defaultValue value, which returned if raw value is {@code null} or cannot be parsed
+     */
+    public abstract boolean parseBoolean(CharSequence value, boolean defaultValue);
+
+    /**
+     * Same as {@link #parseBoolean(CharSequence, boolean)}, but failure is reported by {@code parsePosition} - every {@code boolean} value can be returned.
+     * <p>Default implementation parses value second time only, if first result is same as default value. Parsers should override it.</p>
+     * @param parsePosition error index is set, if value is {@code null} or cannot be parsed
+     * @return parsed value, or {@code false} - on failure
+     */
+    public default boolean parseBoolean(CharSequence value, ParsePosition parsePosition)
+    {
+        boolean parsedValue = parseBoolean(value, false);
+        if ((!parsedValue) && parseBoolean(value, true))
+        {
+            parsePosition.setErrorIndex(0);
+        }
+        return parsedValue;
+    }
+}
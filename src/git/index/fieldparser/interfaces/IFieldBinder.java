@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.interfaces;
+
+/**
+ * Binder, generated at compile time by {@code git.index.fieldparser.processor.FieldBinderProcessor}.
+ * <p>Generated binder is placed in same package, as config class, and have a name {@link #getBinderClassName(Class)}.
+ * Binder assigns fields directly, without {@code VarHandle}. Parameter annotations (like {@code ConfigParameterVariable})
+ * are still read by reflection, but only once - on first load of parser.
+ * Fields, which cannot be accessed from generated code ({@code private}), are listed in {@link #getReflectiveFieldNames()}.</p>
+ */
+public interface IFieldBinder
+{
+    public static final String BINDER_CLASS_SUFFIX = "_FieldBinder";
+
+    /**
+     * Flags of fields, returned by {@link #getFieldFlags()}. Parser uses them instead of reading modifiers and annotations of field.
+     */
+    public static final int FLAG_PROTECTED = 1;
+    public static final int FLAG_STATIC = 1 << 1;
+    /**
+     * Field is marked by {@code ImmutableVariable}.
+     */
+    public static final int FLAG_IMMUTABLE_VARIABLE = 1 << 2;
+    /**
+     * Field is marked by one of constraint annotations ({@code NumberRange}, {@code MaxSize}, {@code MatchPattern}, {@code AllowedValues}).
+     */
+    public static final int FLAG_CONSTRAINTS = 1 << 3;
+    /**
+     * Field is marked by {@code ParserPipeline}.
+     */
+    public static final int FLAG_PARSER_PIPELINE = 1 << 4;
+
+    /**
+     * @return names of non-final fields, which can be assigned by binder. Index of name is a {@code fieldIndex}. Array should not be modified.
+     */
+    public abstract String[] getFieldNames();
+
+    /**
+     * @return flags of fields from {@link #getFieldNames()} (same indexes), or {@code null} - if binder was generated without flags.
+     * Array should not be modified.
+     */
+    public default int[] getFieldFlags()
+    {
+        return null;
+    }
+
+    /**
+     * @return names of non-final fields, which should be accessed through reflection. Array should not be modified.
+     */
+    public abstract String[] getReflectiveFieldNames();
+
+    /**
+     * @param instance instance of config class (ignored for static fields)
+     * @param fieldIndex index from {@link #getFieldNames()}
+     */
+    public abstract Object getFieldValue(Object instance, int fieldIndex);
+
+    /**
+     * @param instance instance of config class (ignored for static fields)
+     * @param fieldIndex index from {@link #getFieldNames()}
+     * @param value new value of field. Primitive fields do not accept a {@code null}.
+     */
+    public abstract void setFieldValue(Object instance, int fieldIndex, Object value);
+
+    /**
+     * Typed setters allow to assign primitive fields without boxing. Generated binder overrides them for fields of same type.
+     */
+    public default void setIntFieldValue(Object instance, int fieldIndex, int value)
+    {
+        setFieldValue(instance, fieldIndex, value);
+    }
+
+    public default void setLongFieldValue(Object instance, int fieldIndex, long value)
+    {
+        setFieldValue(instance, fieldIndex, value);
+    }
+
+    public default void setDoubleFieldValue(Object instance, int fieldIndex, double value)
+    {
+        setFieldValue(instance, fieldIndex, value);
+    }
+
+    public default void setBooleanFieldValue(Object instance, int fieldIndex, boolean value)
+    {
+        setFieldValue(instance, fieldIndex, value);
+    }
+
+    public static String getBinderClassName(Class<?> bindingClass)
+    {
+        String binaryName = bindingClass.getName();
+        int packageSeparator = binaryName.lastIndexOf('.');
+        String packageName = (packageSeparator == -1) ? "" : binaryName.substring(0, packageSeparator + 1);
+        return packageName + escapeBinaryName(binaryName.substring(packageSeparator + 1)) + BINDER_CLASS_SUFFIX;
+    }
+
+    /**
+     * Escapes binary name of class without package. {@code '_'} is replaced by {@code "_1"} and {@code '$'} by {@code "__"},
+     * so {@code Foo_Bar} and {@code Foo$Bar} (nested {@code Foo.Bar}) have different binders.
+     */
+    public static String escapeBinaryName(String simpleBinaryName)
+    {
+        StringBuilder escapedName = new StringBuilder(simpleBinaryName.length() + 4);
+        for (int index = 0; index < simpleBinaryName.length(); index++)
+        {
+            char character = simpleBinaryName.charAt(index);
+            if (character == '_')
+            {
+                escapedName.append("_1");
+            }
+            else if (character == '$')
+            {
+                escapedName.append("__");
+            }
+            else
+            {
+                escapedName.append(character);
+            }
+        }
+        return escapedName.toString();
+    }
+
+    /**
+     * @return generated binder of class, or {@code null} if class was compiled without annotation processor
+     */
+    public static IFieldBinder findBinder(Class<?> bindingClass)
+    {
+        try
+        {
+            Class<?> binderClass = Class.forName(getBinderClassName(bindingClass), true, bindingClass.getClassLoader());
+            if (!IFieldBinder.class.isAssignableFrom(binderClass))
+            {
+                return null;
+            }
+            return (IFieldBinder) binderClass.getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | LinkageError e)
+        {   // class compiled without processor
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model;
+
+/**
+ * Read-only view over a part of string - {@code value[start, end)}. Characters are not copied.
+ * View is mutable and can be reused for every part of split value ({@link #reset(String, int, int)}),
+ * so consumer should not keep a reference on it - {@link #toString()} creates an independent copy.
+ */
+public final class CharSequenceSlice implements CharSequence
+{
+    private String _value;
+    private int _start;
+    private int _end;
+
+    public CharSequenceSlice()
+    {
+        _value = "";
+    }
+
+    /**
+     * @return this view, which now points to {@code value[start, end)}
+     */
+    public CharSequenceSlice reset(String value, int start, int end)
+    {
+        if ((start < 0) || (start > end) || (end > value.length()))
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds for length " + value.length());
+        }
+        _value = value;
+        _start = start;
+        _end = end;
+        return this;
+    }
+
+    @Override
+    public int length()
+    {
+        return _end - _start;
+    }
+
+    @Override
+    public char charAt(int index)
+    {
+        if ((index < 0) || (index >= length()))
+        {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for length " + length());
+        }
+        return _value.charAt(_start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end)
+    {
+        if ((start < 0) || (start > end) || (end > length()))
+        {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds for length " + length());
+        }
+        return _value.subSequence(_start + start, _start + end);
+    }
+
+    @Override
+    public String toString()
+    {
+        return _value.substring(_start, _end);
+    }
+}
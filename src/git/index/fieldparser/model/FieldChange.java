@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+public final class FieldChange
+{
+    private final String _fieldName;
+    private final Field _field;
+    private final Object _oldValue;
+    private final Object _newValue;
+
+    public FieldChange(Field field, Object oldValue, Object newValue)
+    {
+        this(field.getName(), field, oldValue, newValue);
+    }
+
+    /**
+     * @param fieldName path of field. For fields of nested objects - names of fields, joined by dot (like {@code database.pool.size})
+     */
+    public FieldChange(String fieldName, Field field, Object oldValue, Object newValue)
+    {
+        _fieldName = fieldName;
+        _field = field;
+        _oldValue = oldValue;
+        _newValue = newValue;
+    }
+
+    public Field getField()
+    {
+        return _field;
+    }
+
+    public String getFieldName()
+    {
+        return _fieldName;
+    }
+
+    public Object getOldValue()
+    {
+        return _oldValue;
+    }
+
+    public Object getNewValue()
+    {
+        return _newValue;
+    }
+
+    /**
+     * @param prefix name of field, which holds the nested object with changed field
+     * @return same change, which name is prefixed by name of holder field
+     */
+    public FieldChange withNamePrefix(String prefix)
+    {
+        return new FieldChange(prefix + "." + _fieldName, _field, _oldValue, _newValue);
+    }
+
+    /**
+     * Arrays are compared by content, other objects by {@link Object#equals(Object)}.
+     * @return {@code true} - if value was really changed
+     */
+    public static boolean isChanged(Object oldValue, Object newValue)
+    {
+        return !Objects.deepEquals(oldValue, newValue);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FieldChange(" + getFieldName() + ": " + _oldValue + " -> " + _newValue + ")";
+    }
+}
@@ -52,6 +52,16 @@ public class FieldClassRef<T>
         return _actualClassArguments;
     }
 
+    /**
+     * @return reference for other type (element of collection, value of supplier), which keep all attributes of this reference
+     */
+    public <V> FieldClassRef<V> createSubReference(Class<?> mainType, Class<?>... subGenerics)
+    {
+        FieldClassRef<V> subReference = new FieldClassRef<>(mainType, subGenerics);
+        subReference._attributes.putAll(_attributes);
+        return subReference;
+    }
+
     public <V> FieldClassRef<T> withAttribute(AttributeKey<V> key, V value)
     {
         key.validateValue(value);
@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model;
+
+import git.index.configparser.annotations.AllowedValues;
+import git.index.configparser.annotations.MatchPattern;
+import git.index.configparser.annotations.MaxSize;
+import git.index.configparser.annotations.NumberRange;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Constraints of field, compiled once from {@link NumberRange}, {@link MaxSize}, {@link MatchPattern} and {@link AllowedValues}.
+ * Checks are done on parsed value before it assigned into field.
+ */
+public final class FieldConstraints
+{
+    private final boolean _hasRange;
+    private final double _min;
+    private final double _max;
+    private final long _minLong;
+    private final long _maxLong;
+
+    private final int _maxSize;
+
+    private final Pattern _pattern;
+
+    private final Set<String> _allowedNames;
+    /**
+     * Allowed ordinals of last checked enum class. Built on first check of enum value.
+     */
+    private volatile AllowedOrdinals _allowedOrdinals;
+
+    private FieldConstraints(NumberRange numberRange, MaxSize maxSize, MatchPattern matchPattern, AllowedValues allowedValues)
+    {
+        _hasRange = (numberRange != null);
+        _min = _hasRange ? numberRange.min() : Double.NEGATIVE_INFINITY;
+        _max = _hasRange ? numberRange.max() : Double.POSITIVE_INFINITY;
+        // (long) cast saturates infinity into Long.MIN_VALUE / Long.MAX_VALUE
+        _minLong = (long) Math.ceil(_min);
+        _maxLong = (long) Math.floor(_max);
+
+        _maxSize = (maxSize == null) ? -1 : maxSize.value();
+
+        _pattern = (matchPattern == null) ? null : Pattern.compile(matchPattern.value());
+
+        if (allowedValues == null)
+        {
+            _allowedNames = null;
+        }
+        else
+        {
+            _allowedNames = new HashSet<>(allowedValues.value().length);
+            for (String allowedName : allowedValues.value())
+            {
+                _allowedNames.add(allowedName.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+    }
+
+    /**
+     * @return compiled constraints, or {@code null} if field do not have any
+     */
+    public static FieldConstraints compile(Field field)
+    {
+        NumberRange numberRange = field.getAnnotation(NumberRange.class);
+        MaxSize maxSize = field.getAnnotation(MaxSize.class);
+        MatchPattern matchPattern = field.getAnnotation(MatchPattern.class);
+        AllowedValues allowedValues = field.getAnnotation(AllowedValues.class);
+        if ((numberRange == null) && (maxSize == null) && (matchPattern == null) && (allowedValues == null))
+        {
+            return null;
+        }
+        return new FieldConstraints(numberRange, maxSize, matchPattern, allowedValues);
+    }
+
+    public boolean checkLong(long value)
+    {
+        return (!_hasRange) || ((value >= _minLong) && (value <= _maxLong));
+    }
+
+    public boolean checkDouble(double value)
+    {
+        return (!_hasRange) || ((value >= _min) && (value <= _max));
+    }
+
+    /**
+     * @param value parsed value ({@code null} is always valid - it means "no value")
+     * @return {@code true} - if value can be assigned into field
+     */
+    public boolean test(Object value)
+    {
+        if (value == null)
+        {
+            return true;
+        }
+        if (value instanceof Number)
+        {
+            if ((value instanceof Double) || (value instanceof Float))
+            {
+                return checkDouble(((Number) value).doubleValue());
+            }
+            return checkLong(((Number) value).longValue());
+        }
+        if (value instanceof CharSequence)
+        {
+            CharSequence charSequence = (CharSequence) value;
+            if ((_maxSize >= 0) && (charSequence.length() > _maxSize))
+            {
+                return false;
+            }
+            return (_pattern == null) || _pattern.matcher(charSequence).matches();
+        }
+        if (value instanceof Enum)
+        {
+            return checkEnum((Enum<?>) value);
+        }
+        if (value instanceof Collection)
+        {
+            Collection<?> collection = (Collection<?>) value;
+            if ((_maxSize >= 0) && (collection.size() > _maxSize))
+            {
+                return false;
+            }
+            if (_allowedNames != null)
+            {
+                for (Object element : collection)
+                {
+                    if ((element instanceof Enum) && (!checkEnum((Enum<?>) element)))
+                    {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        if (value instanceof Map)
+        {
+            return (_maxSize < 0) || (((Map<?, ?>) value).size() <= _maxSize);
+        }
+        if (value.getClass().isArray())
+        {
+            int length = Array.getLength(value);
+            if ((_maxSize >= 0) && (length > _maxSize))
+            {
+                return false;
+            }
+            if ((_allowedNames != null) && (value instanceof Enum[]))
+            {
+                for (Enum<?> element : (Enum<?>[]) value)
+                {
+                    if ((element != null) && (!checkEnum(element)))
+                    {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return true;
+    }
+
+    private boolean checkEnum(Enum<?> value)
+    {
+        if (_allowedNames == null)
+        {
+            return true;
+        }
+        Class<?> enumClass = value.getDeclaringClass();
+        AllowedOrdinals allowedOrdinals = _allowedOrdinals;
+        if ((allowedOrdinals == null) || (allowedOrdinals._enumClass != enumClass))
+        {
+            allowedOrdinals = new AllowedOrdinals(enumClass, _allowedNames);
+            _allowedOrdinals = allowedOrdinals;
+        }
+        return allowedOrdinals._allowed[value.ordinal()];
+    }
+
+    @Override
+    public String toString()
+    {
+        String description = (_hasRange ? ("range: [" + _min + " .. " + _max + "] ") : "") +
+                ((_maxSize >= 0) ? ("max size: " + _maxSize + " ") : "") +
+                ((_pattern != null) ? ("pattern: '" + _pattern.pattern() + "' ") : "") +
+                ((_allowedNames != null) ? ("allowed: " + _allowedNames) : "");
+        return "FieldConstraints(" + description.trim() + ")";
+    }
+
+    private final static class AllowedOrdinals
+    {
+        private final Class<?> _enumClass;
+        private final boolean[] _allowed;
+
+        private AllowedOrdinals(Class<?> enumClass, Set<String> allowedNames)
+        {
+            Object[] enumConstants = enumClass.getEnumConstants();
+            _enumClass = enumClass;
+            _allowed = new boolean[enumConstants.length];
+            for (Object enumConstant : enumConstants)
+            {
+                _allowed[((Enum<?>) enumConstant).ordinal()] = allowedNames.contains(((Enum<?>) enumConstant).name().toUpperCase(Locale.ROOT));
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model;
+
+import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.interfaces.IFieldParser;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Value of {@link Supplier} field, which is parsed on first {@link #get()} instead of config loading.
+ * <p>Only raw string is captured while loading. Parsed value is memoized, parsing is done once even with concurrent access.</p>
+ * <p>Constraints of field are checked on parsing - value, which violates them, is replaced by default value.</p>
+ * @param <T> type of parsed value
+ */
+public final class LazyFieldValue<T> implements Supplier<T>
+{
+    private final static LoggerImpl LOGGER = new LoggerImpl(LazyFieldValue.class);
+
+    private final String _rawValue;
+    private final Class<?> _valueClass;
+
+    // released after parsing
+    private IFieldParser<?> _fieldParser;
+    private FieldClassRef<T> _fieldClassRef;
+    private Supplier<?> _defaultValue;
+    private FieldConstraints _constraints;
+    private String _fieldName;
+
+    private volatile boolean _parsed;
+    private T _value;
+
+    public LazyFieldValue(IFieldParser<?> fieldParser, String rawValue, FieldClassRef<T> fieldClassRef, Supplier<?> defaultValue)
+    {
+        this(fieldParser, rawValue, fieldClassRef, defaultValue, null, null);
+    }
+
+    /**
+     * @param constraints constraints of field (can be {@code null})
+     * @param fieldName name of field - for logging of violated constraints
+     */
+    public LazyFieldValue(IFieldParser<?> fieldParser, String rawValue, FieldClassRef<T> fieldClassRef, Supplier<?> defaultValue, FieldConstraints constraints, String fieldName)
+    {
+        _rawValue = rawValue;
+        _valueClass = fieldClassRef.getRawClass();
+        _fieldParser = fieldParser;
+        _fieldClassRef = fieldClassRef;
+        _defaultValue = defaultValue;
+        _constraints = constraints;
+        _fieldName = fieldName;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get()
+    {
+        if (_parsed)
+        {
+            return _value;
+        }
+        synchronized (this)
+        {
+            if (_parsed)
+            {
+                return _value;
+            }
+            T value = _fieldParser.parseValue(_rawValue, _fieldClassRef, null);
+            if ((_constraints != null) && (!_constraints.test(value)))
+            {
+                LOGGER.error("Value " + ("[" + value + "]") + " of field " + ("[" + _fieldName + "]") + " violates " + _constraints + ". Using a default value.");
+                value = null;
+            }
+            if ((value == null) && (_defaultValue != null))
+            {
+                value = (T) _defaultValue.get();
+            }
+            _value = value;
+            _fieldParser = null;
+            _fieldClassRef = null;
+            _defaultValue = null;
+            _constraints = null;
+            _fieldName = null;
+            // volatile write publishes '_value'
+            _parsed = true;
+            return value;
+        }
+    }
+
+    public String getRawValue()
+    {
+        return _rawValue;
+    }
+
+    public boolean isParsed()
+    {
+        return _parsed;
+    }
+
+    /**
+     * Lazy values are equal, if they are created from same raw value for same type - parsed result will be same.
+     */
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof LazyFieldValue))
+        {
+            return false;
+        }
+        LazyFieldValue<?> compareObject = ((LazyFieldValue<?>) obj);
+        return Objects.equals(_rawValue, compareObject._rawValue) && (_valueClass == compareObject._valueClass);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(_rawValue, _valueClass);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LazyFieldValue(" + (_parsed ? String.valueOf(_value) : ("raw: " + _rawValue)) + ")";
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits value by separator pattern like {@code Pattern.split(value, -1)}, but returns bounds of parts instead of substrings.
+ * Patterns, which match only a literal string ({@code ;}, {@code \|}, {@code ::}), are split by {@link String#indexOf} without regex engine.
+ * Real regex patterns are still split by {@link Matcher}.
+ * Parts can be read without copy through {@link CharSequenceSlice}.
+ */
+public final class ValueSplitter
+{
+    private final static String REGEX_META_CHARACTERS = ".$|()[{^?*+\\";
+
+    private final static int[] EMPTY_BOUNDS = new int[0];
+
+    private ValueSplitter()
+    {
+        // utility class
+    }
+
+    /**
+     * @return literal separator, which is matched by pattern, or {@code null} - if pattern is a real regex
+     */
+    public static String getLiteralSeparator(Pattern pattern)
+    {
+        String regex = pattern.pattern();
+        if (regex.isEmpty())
+        {
+            return null;
+        }
+        if (pattern.flags() == Pattern.LITERAL)
+        {
+            return regex;
+        }
+        if (pattern.flags() != 0)
+        {   // case-insensitive and other flags can change meaning of literal
+            return null;
+        }
+        if ((regex.length() == 2) && (regex.charAt(0) == '\\') && (!Character.isLetterOrDigit(regex.charAt(1))))
+        {   // escaped meta character - \| or \.
+            return regex.substring(1);
+        }
+        for (int index = 0; index < regex.length(); index++)
+        {
+            if (REGEX_META_CHARACTERS.indexOf(regex.charAt(index)) >= 0)
+            {
+                return null;
+            }
+        }
+        return regex;
+    }
+
+    /**
+     * Splits {@code value[start, end)}. Empty range has no parts, trailing empty parts are kept.
+     * @return bounds of parts - {@code [start0, end0, start1, end1, ...]}
+     */
+    public static int[] split(String value, int start, int end, Pattern pattern)
+    {
+        if (start >= end)
+        {
+            return EMPTY_BOUNDS;
+        }
+        String separator = getLiteralSeparator(pattern);
+        if (separator != null)
+        {
+            return splitByLiteral(value, start, end, separator);
+        }
+        return splitByPattern(value, start, end, pattern);
+    }
+
+    /**
+     * Same as {@link #split(String, int, int, Pattern)} for whole value, but parts are copied into strings.
+     */
+    public static String[] splitToStrings(String value, Pattern pattern)
+    {
+        int[] bounds = split(value, 0, value.length(), pattern);
+        String[] parts = new String[bounds.length >> 1];
+        for (int index = 0; index < parts.length; index++)
+        {
+            parts[index] = value.substring(bounds[index << 1], bounds[(index << 1) + 1]);
+        }
+        return parts;
+    }
+
+    private static int[] splitByLiteral(String value, int start, int end, String separator)
+    {
+        int separatorLength = separator.length();
+        // first pass - count of parts, so bounds array is allocated once
+        int partsCount = 1;
+        for (int index = indexOf(value, separator, start, end); index >= 0; index = indexOf(value, separator, index + separatorLength, end))
+        {
+            partsCount += 1;
+        }
+        int[] bounds = new int[partsCount << 1];
+        int partStart = start;
+        int boundIndex = 0;
+        for (int index = indexOf(value, separator, start, end); index >= 0; index = indexOf(value, separator, index + separatorLength, end))
+        {
+            bounds[boundIndex++] = partStart;
+            bounds[boundIndex++] = index;
+            partStart = index + separatorLength;
+        }
+        bounds[boundIndex++] = partStart;
+        bounds[boundIndex] = end;
+        return bounds;
+    }
+
+    /**
+     * Search is limited by {@code end} - nested dimensions do not scan a rest of value.
+     */
+    private static int indexOf(String value, String separator, int fromIndex, int end)
+    {
+        if (separator.length() == 1)
+        {
+            char separatorChar = separator.charAt(0);
+            for (int index = fromIndex; index < end; index++)
+            {
+                if (value.charAt(index) == separatorChar)
+                {
+                    return index;
+                }
+            }
+            return -1;
+        }
+        for (int index = fromIndex; index <= (end - separator.length()); index++)
+        {
+            if (value.startsWith(separator, index))
+            {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] splitByPattern(String value, int start, int end, Pattern pattern)
+    {
+        Matcher matcher = pattern.matcher(value).region(start, end);
+        int[] bounds = new int[16];
+        int boundIndex = 0;
+        int partStart = start;
+        while (matcher.find())
+        {
+            if ((partStart == start) && (matcher.start() == start) && (matcher.end() == start))
+            {   // zero-width match at the beginning does not produce an empty leading part
+                continue;
+            }
+            if ((boundIndex + 2) > bounds.length)
+            {
+                bounds = Arrays.copyOf(bounds, bounds.length << 1);
+            }
+            bounds[boundIndex++] = partStart;
+            bounds[boundIndex++] = matcher.start();
+            partStart = matcher.end();
+        }
+        if ((boundIndex + 2) > bounds.length)
+        {
+            bounds = Arrays.copyOf(bounds, bounds.length + 2);
+        }
+        bounds[boundIndex++] = partStart;
+        bounds[boundIndex++] = end;
+        return (boundIndex == bounds.length) ? bounds : Arrays.copyOf(bounds, boundIndex);
+    }
+}
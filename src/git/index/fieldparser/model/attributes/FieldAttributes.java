@@ -23,6 +23,10 @@
  */
 package git.index.fieldparser.model.attributes;
 
+import git.index.fieldparser.FieldParserManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 public interface FieldAttributes
@@ -30,4 +34,30 @@ public interface FieldAttributes
     public static final AttributeKey<Pattern> SPLIT_PATTERN_01 = AttributeKey.of("split.pattern.dim01", Pattern.class);
 
     public static final AttributeKey<Pattern> SPLIT_PATTERN_02 = AttributeKey.of("split.pattern.dim02", Pattern.class);
+
+    public static final AttributeKey<Pattern> SPLIT_PATTERN_03 = AttributeKey.of("split.pattern.dim03", Pattern.class);
+
+    public static final AttributeKey<Pattern> SPLIT_PATTERN_04 = AttributeKey.of("split.pattern.dim04", Pattern.class);
+
+    /**
+     * Keys of split patterns by dimension - index {@code 0} is a first (outer) dimension.
+     */
+    public static final List<AttributeKey<Pattern>> SPLIT_PATTERNS = List.of(SPLIT_PATTERN_01, SPLIT_PATTERN_02, SPLIT_PATTERN_03, SPLIT_PATTERN_04);
+
+    /**
+     * Parser should return a read-only value (for now - supported by maps).
+     */
+    public static final AttributeKey<Boolean> UNMODIFIABLE = AttributeKey.of("value.unmodifiable", Boolean.class);
+
+    /**
+     * Unit, into which number parsers convert values with time suffix ({@code 30s}, {@code 2h}).
+     * If not presented - {@link TimeUnit#MILLISECONDS} is used.
+     */
+    public static final AttributeKey<TimeUnit> TIME_UNIT = AttributeKey.of("value.time.unit", TimeUnit.class);
+
+    /**
+     * Registry of parsers, which should be used for values inside of composite value (elements of array / collection).
+     * If not presented - global registry is used.
+     */
+    public static final AttributeKey<FieldParserManager> PARSER_MANAGER = AttributeKey.of("parser.manager", FieldParserManager.class);
 }
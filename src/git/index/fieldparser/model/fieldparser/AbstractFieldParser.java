@@ -23,12 +23,29 @@
  */
 package git.index.fieldparser.model.fieldparser;
 
+import git.index.configparser.annotations.AllowedValues;
 import git.index.configparser.annotations.ImmutableVariable;
+import git.index.configparser.annotations.MatchPattern;
+import git.index.configparser.annotations.MaxSize;
+import git.index.configparser.annotations.NumberRange;
+import git.index.configparser.model.SharedParsedValues;
 import git.index.dummylogger.LoggerImpl;
 import git.index.fieldparser.FieldParserManager;
 import git.index.fieldparser.annotations.FieldParser;
+import git.index.fieldparser.annotations.ParserPipeline;
+import git.index.fieldparser.interfaces.IBooleanFieldParser;
+import git.index.fieldparser.interfaces.IDoubleFieldParser;
+import git.index.fieldparser.interfaces.IFieldBinder;
+import git.index.fieldparser.interfaces.IFieldChangeListener;
 import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.interfaces.IIntFieldParser;
+import git.index.fieldparser.interfaces.ILongFieldParser;
+import git.index.fieldparser.model.FieldChange;
 import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.FieldConstraints;
+import git.index.fieldparser.model.LazyFieldValue;
+import git.index.fieldparser.model.attributes.FieldAttributes;
+import git.index.fieldparser.model.pipeline.FieldParserPipeline;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
@@ -38,10 +55,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 public abstract class AbstractFieldParser
 {
@@ -53,9 +73,23 @@ public abstract class AbstractFieldParser
     protected final Map<String, FieldHolder> _fieldMap;
     protected final Map<String, MethodHolder> _methodMap;
 
+    protected final List<IFieldChangeListener> _changeListeners;
+    /**
+     * Changes, collected since last {@link #fireFieldChanges()}. {@code null} - if nobody listens.
+     * Belongs to current load - subclasses should not run loads of same instance in parallel.
+     */
+    protected List<FieldChange> _fieldChanges;
+
+    /**
+     * Registry of parsers for fields of this instance. By default - global registry.
+     */
+    protected volatile FieldParserManager _parserManager;
+
     protected AbstractFieldParser(Object instanceOfFieldParser, boolean accessIntoPrivate)
     {
         _logger = new LoggerImpl(this.getClass());
+        _changeListeners = new CopyOnWriteArrayList<>();
+        _parserManager = FieldParserManager.getInstance();
 
         _instanceOfFieldParser = instanceOfFieldParser;
         _accessIntoPrivate = accessIntoPrivate;
@@ -64,57 +98,195 @@ public abstract class AbstractFieldParser
         _methodMap = generateMethodList();
     }
 
+    /**
+     * @param parserManager registry of parsers (for example - child of global registry from {@link FieldParserManager#createChildRegistry()}).
+     *                      {@code null} - global registry
+     */
+    public void setParserManager(FieldParserManager parserManager)
+    {
+        _parserManager = (parserManager == null) ? FieldParserManager.getInstance() : parserManager;
+    }
+
+    public FieldParserManager getParserManager()
+    {
+        return _parserManager;
+    }
+
     protected Map<String, FieldHolder> generateFieldList()
     {
+        IFieldBinder fieldBinder = IFieldBinder.findBinder(_instanceOfFieldParser.getClass());
+        if (fieldBinder != null)
+        {
+            return generateFieldListFromBinder(fieldBinder);
+        }
         Field[] fieldsArray = _instanceOfFieldParser.getClass().getDeclaredFields();
         Map<String, FieldHolder> fieldMap = new HashMap<>(fieldsArray.length);
         for (Field field : fieldsArray)
         {
-            if (
-                    // cannot change final field
-                    (Modifier.isFinal(field.getModifiers()))
-            )
+            if (!isAccessibleField(field))
             {
                 continue;
             }
-            if ((!_accessIntoPrivate) &&
-                    // cannot change non-visible fields
-                    (Modifier.isPrivate(field.getModifiers()) || Modifier.isProtected(field.getModifiers())))
+            FieldHolder fieldHolder = createVarHandleFieldHolder(field);
+            if (fieldHolder != null)
             {
-                continue;
+                fieldMap.put(field.getName(), fieldHolder);
+            }
+        }
+        return fieldMap;
+    }
+
+    /**
+     * Field list, which generated at compile time. Only fields, which cannot be assigned by binder, will use a {@code VarHandle}.
+     * Fields of binder are described by {@link IFieldBinder#getFieldFlags()} - {@link Field} is resolved only on request.
+     */
+    protected Map<String, FieldHolder> generateFieldListFromBinder(IFieldBinder fieldBinder)
+    {
+        String[] fieldNames = fieldBinder.getFieldNames();
+        int[] fieldFlags = fieldBinder.getFieldFlags();
+        String[] reflectiveFieldNames = fieldBinder.getReflectiveFieldNames();
+        Map<String, FieldHolder> fieldMap = new HashMap<>(fieldNames.length + reflectiveFieldNames.length);
+        for (int fieldIndex = 0; fieldIndex < fieldNames.length; fieldIndex++)
+        {
+            Field field = null;
+            int flags;
+            if (fieldFlags == null)
+            {   // binder without flags - field is described through reflection
+                field = getDeclaredField(fieldNames[fieldIndex]);
+                if ((field == null) || (!isAccessibleField(field)))
+                {
+                    continue;
+                }
+                flags = getFieldFlags(field);
             }
+            else
+            {
+                flags = fieldFlags[fieldIndex];
+                if ((!_accessIntoPrivate) && ((flags & IFieldBinder.FLAG_PROTECTED) != 0))
+                {   // cannot change non-visible fields
+                    continue;
+                }
+            }
+            Object defaultValue;
             try
             {
-                MethodHandles.Lookup lookupFieldVar = MethodHandles.lookup();
-                MethodHandles.Lookup privateLookupFieldVar = MethodHandles.privateLookupIn(_instanceOfFieldParser.getClass(), lookupFieldVar);
-                VarHandle fieldVarHandle = privateLookupFieldVar.unreflectVarHandle(field);
+                defaultValue = fieldBinder.getFieldValue(_instanceOfFieldParser, fieldIndex);
+            }
+            catch (Throwable t)
+            {
+                defaultValue = null;
+            }
+            fieldMap.put(fieldNames[fieldIndex], new FieldHolder(_instanceOfFieldParser.getClass(), fieldNames[fieldIndex], field, flags, null, fieldBinder, fieldIndex, defaultValue));
+        }
+        for (String reflectiveFieldName : reflectiveFieldNames)
+        {
+            Field field = getDeclaredField(reflectiveFieldName);
+            if ((field == null) || (!isAccessibleField(field)))
+            {
+                continue;
+            }
+            FieldHolder fieldHolder = createVarHandleFieldHolder(field);
+            if (fieldHolder != null)
+            {
+                fieldMap.put(field.getName(), fieldHolder);
+            }
+        }
+        return fieldMap;
+    }
 
-                Object defaultValue;
-                try
+    /**
+     * @return same flags, as generated binder returns by {@link IFieldBinder#getFieldFlags()}
+     */
+    private static int getFieldFlags(Field field)
+    {
+        int fieldFlags = 0;
+        if (Modifier.isProtected(field.getModifiers()))
+        {
+            fieldFlags |= IFieldBinder.FLAG_PROTECTED;
+        }
+        if (Modifier.isStatic(field.getModifiers()))
+        {
+            fieldFlags |= IFieldBinder.FLAG_STATIC;
+        }
+        if (field.getAnnotation(ImmutableVariable.class) != null)
+        {
+            fieldFlags |= IFieldBinder.FLAG_IMMUTABLE_VARIABLE;
+        }
+        if ((field.getAnnotation(NumberRange.class) != null) || (field.getAnnotation(MaxSize.class) != null)
+                || (field.getAnnotation(MatchPattern.class) != null) || (field.getAnnotation(AllowedValues.class) != null))
+        {
+            fieldFlags |= IFieldBinder.FLAG_CONSTRAINTS;
+        }
+        if (field.getAnnotation(ParserPipeline.class) != null)
+        {
+            fieldFlags |= IFieldBinder.FLAG_PARSER_PIPELINE;
+        }
+        return fieldFlags;
+    }
+
+    private Field getDeclaredField(String fieldName)
+    {
+        try
+        {
+            return _instanceOfFieldParser.getClass().getDeclaredField(fieldName);
+        }
+        catch (NoSuchFieldException e)
+        {
+            _logger.error("Cannot find field " + ("[" + fieldName + "]") + ", declared in generated binder. Is binder outdated?", e);
+            return null;
+        }
+    }
+
+    private boolean isAccessibleField(Field field)
+    {
+        if (
+                // cannot change final field
+                (Modifier.isFinal(field.getModifiers()))
+        )
+        {
+            return false;
+        }
+        if ((!_accessIntoPrivate) &&
+                // cannot change non-visible fields
+                (Modifier.isPrivate(field.getModifiers()) || Modifier.isProtected(field.getModifiers())))
+        {
+            return false;
+        }
+        return true;
+    }
+
+    private FieldHolder createVarHandleFieldHolder(Field field)
+    {
+        try
+        {
+            MethodHandles.Lookup lookupFieldVar = MethodHandles.lookup();
+            MethodHandles.Lookup privateLookupFieldVar = MethodHandles.privateLookupIn(_instanceOfFieldParser.getClass(), lookupFieldVar);
+            VarHandle fieldVarHandle = privateLookupFieldVar.unreflectVarHandle(field);
+
+            Object defaultValue;
+            try
+            {
+                if (Modifier.isStatic(field.getModifiers()))
                 {
-                    if (Modifier.isStatic(field.getModifiers()))
-                    {
-                        defaultValue = fieldVarHandle.get();
-                    }
-                    else
-                    {
-                        defaultValue = fieldVarHandle.get(_instanceOfFieldParser);
-                    }
+                    defaultValue = fieldVarHandle.get();
                 }
-                catch (Throwable t)
+                else
                 {
-                    defaultValue = null;
+                    defaultValue = fieldVarHandle.get(_instanceOfFieldParser);
                 }
-
-                FieldHolder fieldHolder = new FieldHolder(field, fieldVarHandle, defaultValue);
-                fieldMap.put(field.getName(), fieldHolder);
             }
-            catch (Exception e)
+            catch (Throwable t)
             {
-                _logger.error("Cannot get access to field " + ("[" + field.getName() + "]") + ". Is accessing into private fields - " + ("[" + (_accessIntoPrivate ? "YES" : "NO") + "]") + ".", e);
+                defaultValue = null;
             }
+
+            return new FieldHolder(field.getDeclaringClass(), field.getName(), field, getFieldFlags(field), fieldVarHandle, null, -1, defaultValue);
+        }
+        catch (Exception e)
+        {
+            _logger.error("Cannot get access to field " + ("[" + field.getName() + "]") + ". Is accessing into private fields - " + ("[" + (_accessIntoPrivate ? "YES" : "NO") + "]") + ".", e);
+            return null;
         }
-        return fieldMap;
     }
 
     protected Map<String, MethodHolder> generateMethodList()
@@ -168,6 +340,8 @@ public abstract class AbstractFieldParser
         {
             return false;
         }
+        boolean trackChanges = isTrackingChanges();
+        Object oldValue = trackChanges ? getFieldValue(fieldHolder) : null;
         boolean success;
         if (isMethodCallAssign(fieldHolder.getField()))
         {
@@ -178,9 +352,82 @@ public abstract class AbstractFieldParser
             success = setValueIntoField(fieldHolder);
         }
         fieldHolder.setParsedOnce(success);
+        if (success && trackChanges)
+        {
+            Object newValue = getFieldValue(fieldHolder);
+            if (FieldChange.isChanged(oldValue, newValue))
+            {
+                addFieldChange(new FieldChange(fieldHolder.getField(), oldValue, newValue));
+            }
+        }
         return success;
     }
 
+    /**
+     * @return {@code true} - if old and new values of parsed fields should be compared and collected
+     */
+    protected boolean isTrackingChanges()
+    {
+        return !_changeListeners.isEmpty();
+    }
+
+    protected void addFieldChange(FieldChange fieldChange)
+    {
+        if (_fieldChanges == null)
+        {
+            _fieldChanges = new ArrayList<>();
+        }
+        _fieldChanges.add(fieldChange);
+    }
+
+    /**
+     * @return changes, collected since last call, or {@code null} - if nothing was changed
+     */
+    protected List<FieldChange> drainFieldChanges()
+    {
+        List<FieldChange> fieldChanges = _fieldChanges;
+        _fieldChanges = null;
+        return fieldChanges;
+    }
+
+    /**
+     * Delivers all collected changes into listeners by one callback.
+     */
+    protected void fireFieldChanges()
+    {
+        fireFieldChanges(drainFieldChanges());
+    }
+
+    protected void fireFieldChanges(List<FieldChange> fieldChanges)
+    {
+        if ((fieldChanges == null) || fieldChanges.isEmpty())
+        {
+            return;
+        }
+        List<FieldChange> readOnlyChanges = Collections.unmodifiableList(fieldChanges);
+        for (IFieldChangeListener changeListener : _changeListeners)
+        {
+            try
+            {
+                changeListener.onFieldsChanged(_instanceOfFieldParser, readOnlyChanges);
+            }
+            catch (Throwable t)
+            {
+                _logger.error("Change listener " + ("[" + changeListener.getClass().getSimpleName() + "]") + " throws error.", t);
+            }
+        }
+    }
+
+    public void addChangeListener(IFieldChangeListener changeListener)
+    {
+        _changeListeners.add(changeListener);
+    }
+
+    public void removeChangeListener(IFieldChangeListener changeListener)
+    {
+        _changeListeners.remove(changeListener);
+    }
+
     protected boolean setValueByMethod(FieldHolder fieldHolder)
     {
         String parseFieldMethodName = getMethodNameForAssignationField(fieldHolder.getField());
@@ -194,6 +441,8 @@ public abstract class AbstractFieldParser
         {
             return false;
         }
+        FieldConstraints constraints = fieldHolder.getConstraints();
+        Object previousValue = (constraints == null) ? null : getFieldValue(fieldHolder);
         try
         {
             methodHolder.getMethodHandle().invokeWithArguments(arguments);
@@ -203,7 +452,25 @@ public abstract class AbstractFieldParser
             _logger.error("Cannot invoke method " + ("[" + parseFieldMethodName + "]") + ". Reason - ", t);
             return false;
         }
-        return true;
+        if (constraints == null)
+        {
+            return true;
+        }
+        // method assigns field by itself - value is checked after assignation and rolled back, if it violates constraints
+        Object assignedValue = getFieldValue(fieldHolder);
+        if (constraints.test(assignedValue))
+        {
+            return true;
+        }
+        try
+        {
+            setFieldValue(fieldHolder, previousValue);
+        }
+        catch (Exception e)
+        {
+            _logger.error("Cannot restore value " + ("[" + previousValue + "]") + " for field " + ("[" + fieldHolder.getFieldName() + "]") + ". Reason - ", e);
+        }
+        return rejectConstraintValue(fieldHolder, assignedValue);
     }
 
     protected List<Object> overrideMethodArguments(FieldHolder fieldHolder, MethodHolder methodHolder)
@@ -220,7 +487,7 @@ public abstract class AbstractFieldParser
         }
         else if (methodHolder.getMethod().getParameterCount() == 1)
         {
-            String rawStringFieldValue = getRawFieldValue(fieldHolder.getField().getName());
+            String rawStringFieldValue = getRawFieldValue(fieldHolder.getFieldName());
             arguments.add(rawStringFieldValue);
         }
         else
@@ -234,39 +501,304 @@ public abstract class AbstractFieldParser
     protected boolean setValueIntoField(FieldHolder fieldHolder)
     {
         FieldClassRef<Object> fieldClassRef = overrideClassRef(fieldHolder.getField(), fieldHolder.getFieldValue());
-        IFieldParser<?> fieldParser = FieldParserManager.getInstance().applyParserFromClass(fieldClassRef.getRawClass());
+        boolean lazyValue = isLazyValue(fieldHolder.getField(), fieldClassRef);
+        if (lazyValue)
+        {
+            fieldClassRef = getLazyValueClassRef(fieldClassRef);
+        }
+        FieldParserManager parserManager = _parserManager;
+        if (parserManager != FieldParserManager.getInstance())
+        {   // composite parsers will resolve parsers of elements by same registry
+            fieldClassRef.withAttribute(FieldAttributes.PARSER_MANAGER, parserManager);
+        }
+        IFieldParser<?> fieldParser = parserManager.applyParserFromClass(fieldClassRef.getRawClass());
         if (fieldParser == null)
         {
-            _logger.error("Cannot parse a field " + ("[" + fieldHolder.getField().getName() + "]") + " because parser of class " + ("[" + fieldClassRef.getRawClass().getSimpleName() + "]") + " is not supported!");
+            _logger.error("Cannot parse a field " + ("[" + fieldHolder.getFieldName() + "]") + " because parser of class " + ("[" + fieldClassRef.getRawClass().getSimpleName() + "]") + " is not supported!");
             return false;
         }
-        String rawStringFieldValue = getRawFieldValue(fieldHolder.getField().getName());
+        if (fieldHolder.getParserPipeline() != null)
+        {
+            fieldParser = fieldHolder.getPipelineParser(fieldParser, fieldClassRef.getRawClass());
+        }
+        String rawStringFieldValue = getRawFieldValue(fieldHolder.getFieldName());
         Object defaultValue = fieldHolder.getFieldValue();
-        Object parsedValue = overrideParsedValue(fieldHolder.getField(), fieldParser.parseValue(rawStringFieldValue, fieldClassRef, defaultValue), fieldClassRef.getRawClass(), fieldClassRef.getActualClassArguments());
+        // primitive parsers do not know about attributes - values in custom time unit are parsed by generic path
+        // shared values are kept boxed - primitive field takes it from shared storage instead of parsing
+        if ((!lazyValue) && (fieldClassRef.getRawClass() == fieldHolder.getField().getType()) && isPrimitiveFieldParser(fieldClassRef.getRawClass(), fieldParser)
+                && (fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null) == null) && (!isSharingParsedValues()))
+        {
+            return setPrimitiveValueIntoField(fieldHolder, fieldParser, rawStringFieldValue);
+        }
+        if (fieldHolder.isMemoizedRawValue(rawStringFieldValue, fieldParser))
+        {
+            return setMemoizedValue(fieldHolder);
+        }
+        Object parsedValue;
+        if (lazyValue)
+        {   // parser will be called on first 'get()'
+            parsedValue = new LazyFieldValue<>(fieldParser, rawStringFieldValue, fieldClassRef, (Supplier<?>) defaultValue, fieldHolder.getConstraints(), fieldHolder.getFieldName());
+        }
+        else
+        {
+            parsedValue = getSharedParsedValue(fieldHolder, rawStringFieldValue);
+            if (parsedValue == null)
+            {
+                parsedValue = overrideParsedValue(fieldHolder.getField(), fieldParser.parseValue(rawStringFieldValue, fieldClassRef, defaultValue), fieldClassRef.getRawClass(), fieldClassRef.getActualClassArguments());
+                putSharedParsedValue(fieldHolder, rawStringFieldValue, parsedValue);
+            }
+        }
+        // lazy value checks constraints by itself, when it is parsed
+        if ((fieldHolder.getConstraints() != null) && (!lazyValue) && (!fieldHolder.getConstraints().test(parsedValue)))
+        {
+            return rejectConstraintValue(fieldHolder, parsedValue);
+        }
         if ((fieldHolder.getField().getType().isPrimitive()) && (parsedValue == null))
         {
-            _logger.error("Cannot parse a field " + ("[" + fieldHolder.getField().getName() + "]") + " because 'FieldParser' by " + (fieldParser.getClass().getSimpleName()) + " drop a 'null' value, when field is a primitive value. Using a default value - " + ("[" + defaultValue + "]") + ".");
+            _logger.error("Cannot parse a field " + ("[" + fieldHolder.getFieldName() + "]") + " because 'FieldParser' by " + (fieldParser.getClass().getSimpleName()) + " drop a 'null' value, when field is a primitive value. Using a default value - " + ("[" + defaultValue + "]") + ".");
             return false;
         }
         try
         {
-            if (Modifier.isStatic(fieldHolder.getField().getModifiers()))
+            setFieldValue(fieldHolder, parsedValue);
+            // mutable objects (collections, maps, arrays) can be changed by user, so they are parsed again on every load
+            if (SharedParsedValues.isShareable(parsedValue))
             {
-                fieldHolder.getFieldVarHandle().set(parsedValue);
+                fieldHolder.setMemoizedValue(rawStringFieldValue, parsedValue, fieldParser);
             }
             else
             {
-                fieldHolder.getFieldVarHandle().set(_instanceOfFieldParser, parsedValue);
+                fieldHolder.setMemoizedValue(null, null, null);
             }
             return true;
         }
         catch (Exception e)
         {
-            _logger.error("Cannot set value " + ("[" + String.valueOf(parsedValue) + "]") + " for field " + ("[" + fieldHolder.getField().getName() + "]") + ". Using a default value - " + ("[" + defaultValue + "]") + ". Reason - ", e);
+            _logger.error("Cannot set value " + ("[" + String.valueOf(parsedValue) + "]") + " for field " + ("[" + fieldHolder.getFieldName() + "]") + ". Using a default value - " + ("[" + defaultValue + "]") + ". Reason - ", e);
             return false;
         }
     }
 
+    /**
+     * Raw value was not changed since last parse - field is left alone, if it still holds a memoized object,
+     * otherwise memoized object is set again.
+     */
+    private boolean setMemoizedValue(FieldHolder fieldHolder)
+    {
+        Object memoizedValue = fieldHolder.getMemoizedValue();
+        try
+        {
+            if (getFieldValue(fieldHolder) != memoizedValue)
+            {
+                setFieldValue(fieldHolder, memoizedValue);
+            }
+            return true;
+        }
+        catch (Exception e)
+        {
+            _logger.error("Cannot set value " + ("[" + String.valueOf(memoizedValue) + "]") + " for field " + ("[" + fieldHolder.getFieldName() + "]") + ". Reason - ", e);
+            fieldHolder.setMemoizedValue(null, null, null);
+            return false;
+        }
+    }
+
+    /**
+     * @return {@code true} - if current load uses {@link #getSharedParsedValue(FieldHolder, String)}
+     */
+    protected boolean isSharingParsedValues()
+    {
+        return false;
+    }
+
+    /**
+     * @return already parsed value for same raw value, which can be assigned without parsing, or {@code null}
+     */
+    protected Object getSharedParsedValue(FieldHolder fieldHolder, String rawStringFieldValue)
+    {
+        return null;
+    }
+
+    /**
+     * Called after parsing of raw value - parsed value can be shared with other instances.
+     */
+    protected void putSharedParsedValue(FieldHolder fieldHolder, String rawStringFieldValue, Object parsedValue)
+    {
+    }
+
+    private boolean rejectConstraintValue(FieldHolder fieldHolder, Object parsedValue)
+    {
+        _logger.error("Value " + ("[" + parsedValue + "]") + " of field " + ("[" + fieldHolder.getFieldName() + "]") + " violates " + fieldHolder.getConstraints() + ". Field keeps a previous value.");
+        return false;
+    }
+
+    /**
+     * @return {@code true} - if field can be parsed and set without boxing
+     */
+    protected static boolean isPrimitiveFieldParser(Class<?> fieldType, IFieldParser<?> fieldParser)
+    {
+        return ((fieldType == int.class) && (fieldParser instanceof IIntFieldParser))
+                || ((fieldType == long.class) && (fieldParser instanceof ILongFieldParser))
+                || ((fieldType == double.class) && (fieldParser instanceof IDoubleFieldParser))
+                || ((fieldType == boolean.class) && (fieldParser instanceof IBooleanFieldParser));
+    }
+
+    /**
+     * Parse and set path for {@code int}, {@code long}, {@code double} and {@code boolean} fields without boxing.
+     * Value is written by exactly typed {@code VarHandle} (or generated binder).
+     * {@link #overrideParsedValue(Field, Object, Class, Class[])} is not called for this path.
+     */
+    protected boolean setPrimitiveValueIntoField(FieldHolder fieldHolder, IFieldParser<?> fieldParser, String rawStringFieldValue)
+    {
+        Class<?> fieldType = fieldHolder.getField().getType();
+        Object defaultValue = fieldHolder.getFieldValue();
+        IFieldBinder fieldBinder = fieldHolder.getFieldBinder();
+        VarHandle fieldVarHandle = fieldHolder.getFieldVarHandle();
+        boolean isStatic = fieldHolder.isStatic();
+        try
+        {
+            if ((fieldType == int.class) && (fieldParser instanceof IIntFieldParser))
+            {
+                int value = ((IIntFieldParser) fieldParser).parseInt(rawStringFieldValue, (defaultValue == null) ? 0 : (int) defaultValue);
+                if ((fieldHolder.getConstraints() != null) && (!fieldHolder.getConstraints().checkLong(value)))
+                {
+                    return rejectConstraintValue(fieldHolder, value);
+                }
+                if (fieldBinder != null)
+                {
+                    fieldBinder.setIntFieldValue(_instanceOfFieldParser, fieldHolder.getFieldBinderIndex(), value);
+                }
+                else if (isStatic)
+                {
+                    fieldVarHandle.set(value);
+                }
+                else
+                {
+                    fieldVarHandle.set(_instanceOfFieldParser, value);
+                }
+                return true;
+            }
+            if ((fieldType == long.class) && (fieldParser instanceof ILongFieldParser))
+            {
+                long value = ((ILongFieldParser) fieldParser).parseLong(rawStringFieldValue, (defaultValue == null) ? 0L : (long) defaultValue);
+                if ((fieldHolder.getConstraints() != null) && (!fieldHolder.getConstraints().checkLong(value)))
+                {
+                    return rejectConstraintValue(fieldHolder, value);
+                }
+                if (fieldBinder != null)
+                {
+                    fieldBinder.setLongFieldValue(_instanceOfFieldParser, fieldHolder.getFieldBinderIndex(), value);
+                }
+                else if (isStatic)
+                {
+                    fieldVarHandle.set(value);
+                }
+                else
+                {
+                    fieldVarHandle.set(_instanceOfFieldParser, value);
+                }
+                return true;
+            }
+            if ((fieldType == double.class) && (fieldParser instanceof IDoubleFieldParser))
+            {
+                double value = ((IDoubleFieldParser) fieldParser).parseDouble(rawStringFieldValue, (defaultValue == null) ? 0D : (double) defaultValue);
+                if ((fieldHolder.getConstraints() != null) && (!fieldHolder.getConstraints().checkDouble(value)))
+                {
+                    return rejectConstraintValue(fieldHolder, value);
+                }
+                if (fieldBinder != null)
+                {
+                    fieldBinder.setDoubleFieldValue(_instanceOfFieldParser, fieldHolder.getFieldBinderIndex(), value);
+                }
+                else if (isStatic)
+                {
+                    fieldVarHandle.set(value);
+                }
+                else
+                {
+                    fieldVarHandle.set(_instanceOfFieldParser, value);
+                }
+                return true;
+            }
+            if ((fieldType == boolean.class) && (fieldParser instanceof IBooleanFieldParser))
+            {
+                boolean value = ((IBooleanFieldParser) fieldParser).parseBoolean(rawStringFieldValue, (defaultValue != null) && (boolean) defaultValue);
+                if (fieldBinder != null)
+                {
+                    fieldBinder.setBooleanFieldValue(_instanceOfFieldParser, fieldHolder.getFieldBinderIndex(), value);
+                }
+                else if (isStatic)
+                {
+                    fieldVarHandle.set(value);
+                }
+                else
+                {
+                    fieldVarHandle.set(_instanceOfFieldParser, value);
+                }
+                return true;
+            }
+        }
+        catch (Exception e)
+        {
+            _logger.error("Cannot set value for field " + ("[" + fieldHolder.getFieldName() + "]") + ". Using a default value - " + ("[" + defaultValue + "]") + ". Reason - ", e);
+            return false;
+        }
+        return false;
+    }
+
+    /**
+     * Field with type {@link Supplier} is parsed lazily. Type of value is taken from
+     * {@link FieldParser#classType()} or from first of {@link FieldParser#genericClasses()}.
+     * @return {@code true} - if field should receive a {@link LazyFieldValue}
+     */
+    protected boolean isLazyValue(Field field, FieldClassRef<Object> fieldClassRef)
+    {
+        if ((field == null) || (field.getType() != Supplier.class))
+        {
+            return false;
+        }
+        return (fieldClassRef.getRawClass() != Supplier.class) || (fieldClassRef.getActualClassArguments().length != 0);
+    }
+
+    protected FieldClassRef<Object> getLazyValueClassRef(FieldClassRef<Object> fieldClassRef)
+    {
+        if (fieldClassRef.getRawClass() != Supplier.class)
+        {   // type declared by 'classType'
+            return fieldClassRef;
+        }
+        Class<?>[] genericClasses = fieldClassRef.getActualClassArguments();
+        return fieldClassRef.createSubReference(genericClasses[0], Arrays.copyOfRange(genericClasses, 1, genericClasses.length));
+    }
+
+    protected Object getFieldValue(FieldHolder fieldHolder)
+    {
+        if (fieldHolder.getFieldBinder() != null)
+        {
+            return fieldHolder.getFieldBinder().getFieldValue(_instanceOfFieldParser, fieldHolder.getFieldBinderIndex());
+        }
+        if (fieldHolder.isStatic())
+        {
+            return fieldHolder.getFieldVarHandle().get();
+        }
+        return fieldHolder.getFieldVarHandle().get(_instanceOfFieldParser);
+    }
+
+    protected void setFieldValue(FieldHolder fieldHolder, Object value)
+    {
+        if (fieldHolder.getFieldBinder() != null)
+        {
+            fieldHolder.getFieldBinder().setFieldValue(_instanceOfFieldParser, fieldHolder.getFieldBinderIndex(), value);
+            return;
+        }
+        if (fieldHolder.isStatic())
+        {
+            fieldHolder.getFieldVarHandle().set(value);
+        }
+        else
+        {
+            fieldHolder.getFieldVarHandle().set(_instanceOfFieldParser, value);
+        }
+    }
+
     /**
      * simple check for understand which method is required to use for set variable:
      * <ul>
@@ -338,18 +870,55 @@ public abstract class AbstractFieldParser
             PARSED_ONCE,
         }
 
-        private final Field _field;
+        private final Class<?> _declaringClass;
+        private final String _fieldName;
+        private final boolean _static;
+        /**
+         * Resolved on first {@link #getField()}, if field is assigned by generated binder.
+         */
+        private volatile Field _field;
         private final VarHandle _fieldVarHandle;
+        /**
+         * Generated binder, which assigns field directly. If presented - {@code _fieldVarHandle} is {@code null}.
+         */
+        private final IFieldBinder _fieldBinder;
+        private final int _fieldBinderIndex;
+        private final FieldConstraints _constraints;
+        private final ParserPipeline _parserPipeline;
+        /**
+         * Pipeline, built from {@link #_parserPipeline}, and parser, which used by pipeline.
+         */
+        private IFieldParser<?> _pipelineParser;
+        private IFieldParser<?> _pipelineSourceParser;
         private byte _mask;
 
         private final Object _fieldValue;
 
-        private FieldHolder(Field field, VarHandle fieldVarHandle, Object defaultValue)
+        /**
+         * Last raw value, object parsed from it and parser. Used to skip parsing on reload, if raw value and parser were not changed.
+         * Only immutable objects are memoized - see {@link SharedParsedValues#isShareable(Object)}.
+         */
+        private String _memoizedRawValue;
+        private Object _memoizedValue;
+        private IFieldParser<?> _memoizedParser;
+
+        /**
+         * @param field field, or {@code null} - if it will be resolved on request
+         * @param fieldFlags flags from {@link IFieldBinder#getFieldFlags()}. Annotations are read only if flags declare them.
+         */
+        private FieldHolder(Class<?> declaringClass, String fieldName, Field field, int fieldFlags, VarHandle fieldVarHandle, IFieldBinder fieldBinder, int fieldBinderIndex, Object defaultValue)
         {
+            _declaringClass = declaringClass;
+            _fieldName = fieldName;
             _field = field;
+            _static = (fieldFlags & IFieldBinder.FLAG_STATIC) != 0;
             _fieldVarHandle = fieldVarHandle;
+            _fieldBinder = fieldBinder;
+            _fieldBinderIndex = fieldBinderIndex;
             _fieldValue = defaultValue;
-            if (_field.getAnnotation(ImmutableVariable.class) != null)
+            _constraints = ((fieldFlags & IFieldBinder.FLAG_CONSTRAINTS) != 0) ? FieldConstraints.compile(getField()) : null;
+            _parserPipeline = ((fieldFlags & IFieldBinder.FLAG_PARSER_PIPELINE) != 0) ? getField().getAnnotation(ParserPipeline.class) : null;
+            if ((fieldFlags & IFieldBinder.FLAG_IMMUTABLE_VARIABLE) != 0)
             {
                 _mask = (byte) (_mask | (1 << FieldHolder.FieldMaskType.IMMUTABLE.ordinal()));
             }
@@ -357,7 +926,30 @@ public abstract class AbstractFieldParser
 
         public Field getField()
         {
-            return _field;
+            Field field = _field;
+            if (field == null)
+            {
+                try
+                {
+                    field = _declaringClass.getDeclaredField(_fieldName);
+                }
+                catch (NoSuchFieldException e)
+                {
+                    throw new IllegalStateException("Cannot find field " + ("[" + _fieldName + "]") + ", declared in generated binder. Is binder outdated?", e);
+                }
+                _field = field;
+            }
+            return field;
+        }
+
+        public String getFieldName()
+        {
+            return _fieldName;
+        }
+
+        public boolean isStatic()
+        {
+            return _static;
         }
 
         public VarHandle getFieldVarHandle()
@@ -365,6 +957,46 @@ public abstract class AbstractFieldParser
             return _fieldVarHandle;
         }
 
+        /**
+         * @return compiled constraints of field, or {@code null}
+         */
+        public FieldConstraints getConstraints()
+        {
+            return _constraints;
+        }
+
+        /**
+         * @return declared pipeline of field, or {@code null}
+         */
+        public ParserPipeline getParserPipeline()
+        {
+            return _parserPipeline;
+        }
+
+        /**
+         * @param sourceParser resolved parser of field class. Pipeline is rebuilt, only if resolved parser was changed.
+         */
+        @SuppressWarnings("unchecked")
+        public IFieldParser<?> getPipelineParser(IFieldParser<?> sourceParser, Class<?> parsableClass)
+        {
+            if ((_pipelineParser == null) || (_pipelineSourceParser != sourceParser))
+            {
+                _pipelineParser = FieldParserPipeline.fromAnnotation((Class<Object>) parsableClass, _parserPipeline, sourceParser);
+                _pipelineSourceParser = sourceParser;
+            }
+            return _pipelineParser;
+        }
+
+        public IFieldBinder getFieldBinder()
+        {
+            return _fieldBinder;
+        }
+
+        public int getFieldBinderIndex()
+        {
+            return _fieldBinderIndex;
+        }
+
         public Object getFieldValue()
         {
             return _fieldValue;
@@ -380,6 +1012,29 @@ public abstract class AbstractFieldParser
             return (_mask & (1 << FieldHolder.FieldMaskType.PARSED_ONCE.ordinal())) != 0;
         }
 
+        /**
+         * @return {@code true} - if field was parsed from same raw value and parsing can be skipped
+         */
+        /**
+         * @param fieldParser parser of current load. Memoized value is dropped, if parser was replaced (other manager, replaced parser in registry).
+         */
+        public boolean isMemoizedRawValue(String rawValue, IFieldParser<?> fieldParser)
+        {
+            return (rawValue != null) && (fieldParser == _memoizedParser) && rawValue.equals(_memoizedRawValue);
+        }
+
+        public Object getMemoizedValue()
+        {
+            return _memoizedValue;
+        }
+
+        public void setMemoizedValue(String rawValue, Object memoizedValue, IFieldParser<?> memoizedParser)
+        {
+            _memoizedRawValue = rawValue;
+            _memoizedValue = memoizedValue;
+            _memoizedParser = memoizedParser;
+        }
+
         public void setParsedOnce(boolean parsedOnce)
         {
             if (parsedOnce == isParsedOnce())
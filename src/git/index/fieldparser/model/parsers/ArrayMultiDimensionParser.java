@@ -0,0 +1,312 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers;
+
+import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.FieldParserManager;
+import git.index.fieldparser.interfaces.IBooleanFieldParser;
+import git.index.fieldparser.interfaces.IDoubleFieldParser;
+import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.interfaces.IIntFieldParser;
+import git.index.fieldparser.interfaces.ILongFieldParser;
+import git.index.fieldparser.model.CharSequenceSlice;
+import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.ValueSplitter;
+import git.index.fieldparser.model.attributes.FieldAttributes;
+
+import java.lang.reflect.Array;
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Parser of arrays with any count of dimensions. Every dimension is split by own pattern
+ * ({@link FieldAttributes#SPLIT_PATTERNS}, by default - {@code ;}, {@code =}, {@code ,}, {@code :}).
+ * Arrays of primitives are filled directly, without {@link Array#set} and boxing (for {@code int}, {@code long},
+ * {@code double}, {@code boolean} - also without boxing inside of parser).
+ * Value is split by {@link ValueSplitter} - nested dimensions and primitive elements are read as ranges of original value, without substrings.
+ */
+public class ArrayMultiDimensionParser implements IFieldParser<Array[][][]>
+{
+    private final static Pattern[] DEFAULT_SPLIT_PATTERNS = new Pattern[]
+            {
+                    Pattern.compile(";"),
+                    Pattern.compile("="),
+                    Pattern.compile(","),
+                    Pattern.compile(":"),
+            };
+
+    private final LoggerImpl _logger;
+
+    private ArrayMultiDimensionParser()
+    {
+        // singleton class
+        _logger = new LoggerImpl(getClass());
+    }
+
+    @Override
+    public Class<Array[][][]> getParsableClass()
+    {
+        return Array[][][].class;
+    }
+
+    @Override
+    public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if ((fieldClassRef == null) || (fieldClassRef.getRawClass() == null) || (!fieldClassRef.getRawClass().isArray()))
+        {
+            return defaultValue;
+        }
+        return parseArray(value, fieldClassRef.getRawClass(), fieldClassRef, defaultValue);
+    }
+
+    /**
+     * @param arrayClass class of output array (with all dimensions)
+     */
+    @SuppressWarnings("unchecked")
+    public <G> G parseArray(String value, Class<?> arrayClass, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        int dimensions = IFieldParser.getDimensionsOfArray(arrayClass);
+        Pattern[] splitPatterns = new Pattern[dimensions];
+        for (int dimension = 0; dimension < dimensions; dimension++)
+        {
+            Pattern splitPattern = (dimension < FieldAttributes.SPLIT_PATTERNS.size()) ? fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERNS.get(dimension), null) : null;
+            if ((splitPattern == null) && (dimension >= DEFAULT_SPLIT_PATTERNS.length))
+            {
+                _logger.error("Cannot parse array " + ("[" + arrayClass.getSimpleName() + "]") + " because separator of dimension " + ("[" + (dimension + 1) + "]") + " is not declared!");
+                return defaultValue;
+            }
+            splitPatterns[dimension] = (splitPattern == null) ? DEFAULT_SPLIT_PATTERNS[dimension] : splitPattern;
+        }
+        Class<?> leafClass = arrayClass;
+        while (leafClass.isArray())
+        {
+            leafClass = leafClass.getComponentType();
+        }
+        FieldParserManager fieldParserManager = FieldParserManager.getManager(fieldClassRef);
+        IFieldParser<?> leafParser = fieldParserManager.applyParserFromClass(leafClass);
+        if (leafParser == null)
+        {
+            _logger.error("Cannot parse array of " + ("[" + leafClass + "]") + " because parser of class " + ("[" + leafClass + "]") + " is not supported!");
+            return defaultValue;
+        }
+        FieldClassRef<Object> leafReference = new FieldClassRef<Object>(leafClass).withAttribute(FieldAttributes.PARSER_MANAGER, fieldParserManager);
+        TimeUnit timeUnit = fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null);
+        if (timeUnit != null)
+        {   // elements are numbers in unit of field
+            leafReference.withAttribute(FieldAttributes.TIME_UNIT, timeUnit);
+        }
+        return ((G) parseDimension(value, 0, value.length(), arrayClass, 0, splitPatterns, leafParser, leafReference));
+    }
+
+    /**
+     * Parses {@code value[start, end)} into array of {@code arrayClass}.
+     */
+    private Object parseDimension(String value, int start, int end, Class<?> arrayClass, int dimension, Pattern[] splitPatterns, IFieldParser<?> leafParser, FieldClassRef<Object> leafReference)
+    {
+        int[] bounds = ValueSplitter.split(value, start, end, splitPatterns[dimension]);
+        int length = bounds.length >> 1;
+        Class<?> componentClass = arrayClass.getComponentType();
+        if (componentClass.isArray())
+        {
+            Object[] arrayOfArrays = (Object[]) Array.newInstance(componentClass, length);
+            for (int index = 0; index < length; index++)
+            {
+                arrayOfArrays[index] = parseDimension(value, bounds[index << 1], bounds[(index << 1) + 1], componentClass, dimension + 1, splitPatterns, leafParser, leafReference);
+            }
+            return arrayOfArrays;
+        }
+        if (!componentClass.isPrimitive())
+        {
+            Object[] arrayOfObjects = (Object[]) Array.newInstance(componentClass, length);
+            for (int index = 0; index < length; index++)
+            {
+                arrayOfObjects[index] = leafParser.parseValue(value.substring(bounds[index << 1], bounds[(index << 1) + 1]), leafReference, null);
+            }
+            return arrayOfObjects;
+        }
+        return parsePrimitiveArray(value, bounds, componentClass, leafParser, leafReference);
+    }
+
+    private Object parsePrimitiveArray(String value, int[] bounds, Class<?> componentClass, IFieldParser<?> leafParser, FieldClassRef<Object> leafReference)
+    {
+        int length = bounds.length >> 1;
+        // one view for all elements - primitive parsers do not keep a reference on value
+        CharSequenceSlice slice = new CharSequenceSlice();
+        // primitive parsers report failure by error index, so any value (including default one) is taken in one pass
+        ParsePosition parsePosition = new ParsePosition(0);
+        // primitive parsers do not know about attributes - values in time unit are parsed by boxed parser
+        boolean isPrimitiveParse = (leafReference.getAttribute(FieldAttributes.TIME_UNIT, null) == null);
+        if (isPrimitiveParse && (componentClass == int.class) && (leafParser instanceof IIntFieldParser intParser))
+        {
+            int[] array = new int[length];
+            for (int index = 0; index < length; index++)
+            {
+                parsePosition.setErrorIndex(-1);
+                array[index] = intParser.parseInt(slice.reset(value, bounds[index << 1], bounds[(index << 1) + 1]), parsePosition);
+                if (parsePosition.getErrorIndex() != -1)
+                {
+                    logPrimitiveElementError(value, bounds, index, componentClass);
+                }
+            }
+            return array;
+        }
+        if (isPrimitiveParse && (componentClass == long.class) && (leafParser instanceof ILongFieldParser longParser))
+        {
+            long[] array = new long[length];
+            for (int index = 0; index < length; index++)
+            {
+                parsePosition.setErrorIndex(-1);
+                array[index] = longParser.parseLong(slice.reset(value, bounds[index << 1], bounds[(index << 1) + 1]), parsePosition);
+                if (parsePosition.getErrorIndex() != -1)
+                {
+                    logPrimitiveElementError(value, bounds, index, componentClass);
+                }
+            }
+            return array;
+        }
+        if (isPrimitiveParse && (componentClass == double.class) && (leafParser instanceof IDoubleFieldParser doubleParser))
+        {
+            double[] array = new double[length];
+            for (int index = 0; index < length; index++)
+            {
+                parsePosition.setErrorIndex(-1);
+                array[index] = doubleParser.parseDouble(slice.reset(value, bounds[index << 1], bounds[(index << 1) + 1]), parsePosition);
+                if (parsePosition.getErrorIndex() != -1)
+                {
+                    logPrimitiveElementError(value, bounds, index, componentClass);
+                }
+            }
+            return array;
+        }
+        if (isPrimitiveParse && (componentClass == boolean.class) && (leafParser instanceof IBooleanFieldParser booleanParser))
+        {
+            boolean[] array = new boolean[length];
+            for (int index = 0; index < length; index++)
+            {
+                parsePosition.setErrorIndex(-1);
+                array[index] = booleanParser.parseBoolean(slice.reset(value, bounds[index << 1], bounds[(index << 1) + 1]), parsePosition);
+                if (parsePosition.getErrorIndex() != -1)
+                {
+                    logPrimitiveElementError(value, bounds, index, componentClass);
+                }
+            }
+            return array;
+        }
+        // parser without primitive interface - value is unboxed into typed array
+        Object array = Array.newInstance(componentClass, length);
+        for (int index = 0; index < length; index++)
+        {
+            parseBoxedElement(array, value, bounds, index, componentClass, leafParser, leafReference);
+        }
+        return array;
+    }
+
+    /**
+     * Parses element by {@link IFieldParser#parseValue} and puts it into array. Element, which cannot be parsed, is left with default value.
+     */
+    private void parseBoxedElement(Object array, String value, int[] bounds, int index, Class<?> componentClass, IFieldParser<?> leafParser, FieldClassRef<Object> leafReference)
+    {
+        String element = value.substring(bounds[index << 1], bounds[(index << 1) + 1]);
+        Object parsedObject = leafParser.parseValue(element, leafReference, null);
+        if (parsedObject == null)
+        {
+            logPrimitiveElementError(value, bounds, index, componentClass);
+            return;
+        }
+        setPrimitiveValue(array, componentClass, index, parsedObject);
+    }
+
+    private void logPrimitiveElementError(String value, int[] bounds, int index, Class<?> componentClass)
+    {
+        String element = value.substring(bounds[index << 1], bounds[(index << 1) + 1]);
+        _logger.error("Cannot add object " + ("['" + element + "']") + " into array, because parsed value is null, but class " + ("['" + componentClass.getSimpleName() + "']") + " is primitive!");
+    }
+
+    private static void setPrimitiveValue(Object array, Class<?> componentClass, int index, Object parsedObject)
+    {
+        if (componentClass == int.class)
+        {
+            ((int[]) array)[index] = (Integer) parsedObject;
+        }
+        else if (componentClass == long.class)
+        {
+            ((long[]) array)[index] = (Long) parsedObject;
+        }
+        else if (componentClass == double.class)
+        {
+            ((double[]) array)[index] = (Double) parsedObject;
+        }
+        else if (componentClass == boolean.class)
+        {
+            ((boolean[]) array)[index] = (Boolean) parsedObject;
+        }
+        else if (componentClass == float.class)
+        {
+            ((float[]) array)[index] = (Float) parsedObject;
+        }
+        else if (componentClass == short.class)
+        {
+            ((short[]) array)[index] = (Short) parsedObject;
+        }
+        else if (componentClass == byte.class)
+        {
+            ((byte[]) array)[index] = (Byte) parsedObject;
+        }
+        else if (componentClass == char.class)
+        {
+            ((char[]) array)[index] = (Character) parsedObject;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <G> G castValue(Object object, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (object == null)
+        {
+            return defaultValue;
+        }
+        if ((fieldClassRef == null) || (fieldClassRef.getRawClass() == null))
+        {
+            return defaultValue;
+        }
+        if (object.getClass() != fieldClassRef.getRawClass())
+        {
+            return defaultValue;
+        }
+        return (G) object;
+    }
+
+    private final static ArrayMultiDimensionParser INSTANCE = new ArrayMultiDimensionParser();
+
+    public static ArrayMultiDimensionParser getInstance()
+    {
+        return INSTANCE;
+    }
+}
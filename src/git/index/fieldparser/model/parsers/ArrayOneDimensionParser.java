@@ -23,23 +23,21 @@
  */
 package git.index.fieldparser.model.parsers;
 
-import git.index.dummylogger.LoggerImpl;
-import git.index.fieldparser.FieldParserManager;
 import git.index.fieldparser.interfaces.IFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
-import git.index.fieldparser.model.attributes.FieldAttributes;
 
 import java.lang.reflect.Array;
-import java.util.regex.Pattern;
 
+/**
+ * Parser of one dimension arrays. Parsing is done by {@link ArrayMultiDimensionParser} - every element is parsed once,
+ * arrays of primitives are filled by typed loops.
+ * If field class is not an array (elements of collection) - array of this class is created.
+ */
 public class ArrayOneDimensionParser implements IFieldParser<Array[]>
 {
-    private final LoggerImpl _logger;
-
     private ArrayOneDimensionParser()
     {
         // singleton class
-        _logger = new LoggerImpl(getClass());
     }
 
     @Override
@@ -49,7 +47,6 @@ public class ArrayOneDimensionParser implements IFieldParser<Array[]>
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
     {
         if (value == null)
@@ -60,39 +57,16 @@ public class ArrayOneDimensionParser implements IFieldParser<Array[]>
         {
             return defaultValue;
         }
-        Class<?> arrayComponent;
-        if (fieldClassRef.getRawClass().isArray())
-        {
-            arrayComponent = fieldClassRef.getRawClass().getComponentType();
-            if (arrayComponent.isArray())
-            {   // two or more dimension array;
-                return defaultValue;
-            }
-        }
-        else
+        Class<?> arrayClass = fieldClassRef.getRawClass();
+        if (!arrayClass.isArray())
         {
-            arrayComponent = fieldClassRef.getRawClass();
+            arrayClass = arrayClass.arrayType();
         }
-        IFieldParser<?> fieldParser = FieldParserManager.getInstance().applyParserFromClass(arrayComponent);
-        if (fieldParser == null)
-        {
-            _logger.error("Cannot parse array of " + ("[" + arrayComponent + "]") + " because parser of class " + ("[" + arrayComponent + "]") + " is not supported!");
+        else if (arrayClass.getComponentType().isArray())
+        {   // two or more dimension array;
             return defaultValue;
         }
-        String[] splitValueArray = splitValue(value, fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_01, null), Pattern.compile(";"));
-        Object arrayOfObjects = Array.newInstance(arrayComponent, splitValueArray.length);
-        FieldClassRef<Object> reference = new FieldClassRef<Object>(arrayComponent);
-        for (int index = 0; index < splitValueArray.length; index++)
-        {   //
-            Object parsedObject = fieldParser.parseValue(splitValueArray[index], reference, null);
-            if (arrayComponent.isPrimitive() && (parsedObject == null))
-            {
-                _logger.error("Cannot add object " + ("['" + splitValueArray[index] + "']") + " into array, because parsed value is null, but class " + ("['" + arrayComponent.getSimpleName() + "']") + " is primitive!");
-                continue;
-            }
-            Array.set(arrayOfObjects, index, fieldParser.parseValue(splitValueArray[index], reference, null));
-        }
-        return ((G) arrayOfObjects);
+        return ArrayMultiDimensionParser.getInstance().parseArray(value, arrayClass, fieldClassRef, defaultValue);
     }
 
     @Override
@@ -128,19 +102,6 @@ public class ArrayOneDimensionParser implements IFieldParser<Array[]>
         return (G) object;
     }
 
-    private static String[] splitValue(String input, Pattern spliterator, Pattern nullValue)
-    {
-        if (input == null || input.isEmpty())
-        {
-            return new String[0];
-        }
-        if (spliterator == null)
-        {
-            spliterator = nullValue;
-        }
-        return spliterator.split(input, -1);
-    }
-
     private final static ArrayOneDimensionParser INSTANCE = new ArrayOneDimensionParser();
 
     public static ArrayOneDimensionParser getInstance()
@@ -23,15 +23,14 @@
  */
 package git.index.fieldparser.model.parsers;
 
-import git.index.dummylogger.LoggerImpl;
-import git.index.fieldparser.FieldParserManager;
 import git.index.fieldparser.interfaces.IFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
-import git.index.fieldparser.model.attributes.FieldAttributes;
 
 import java.lang.reflect.Array;
-import java.util.regex.Pattern;
 
+/**
+ * Parser of two dimensions arrays. Parsing is done by {@link ArrayMultiDimensionParser}.
+ */
 public class ArrayTwoDimensionParser implements IFieldParser<Array[][]>
 {
     private ArrayTwoDimensionParser()
@@ -46,7 +45,6 @@ public class ArrayTwoDimensionParser implements IFieldParser<Array[][]>
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
     {
         if (value == null)
@@ -58,51 +56,15 @@ public class ArrayTwoDimensionParser implements IFieldParser<Array[][]>
             return defaultValue;
         }
         Class<?> arrayComponent = fieldClassRef.getRawClass();
-        if (fieldClassRef.getRawClass().isArray())
-        {
-            arrayComponent = arrayComponent.getComponentType();
-            if (!arrayComponent.isArray())
-            {   // really 1 dimension
-            }
-            else
-            {   // two or more dimension array;
-                arrayComponent = arrayComponent.getComponentType();
-                if (arrayComponent.isArray())
-                {   // three dimensions ;d
-                    return defaultValue;
-                }
-            }
+        if (IFieldParser.getDimensionsOfArray(arrayComponent) > 2)
+        {   // three or more dimensions
+            return ArrayMultiDimensionParser.getInstance().parseArray(value, arrayComponent, fieldClassRef, defaultValue);
         }
-        else
+        while (arrayComponent.isArray())
         {
-            arrayComponent = fieldClassRef.getRawClass();
-        }
-        IFieldParser<?> fieldParser = FieldParserManager.getInstance().applyParserFromClass(arrayComponent);
-        if (fieldParser == null)
-        {
-            new LoggerImpl(getClass()).error("Cannot parse array of " + ("[" + arrayComponent + "]") + " because parser of class " + ("[" + arrayComponent + "]") + " is not supported!");
-            return defaultValue;
-        }
-        String[] oneDimSplitValues = splitValue(value, fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_01, null), Pattern.compile(";"));
-        Object arrayOfObjects = Array.newInstance(arrayComponent, oneDimSplitValues.length, 0);
-        FieldClassRef<Object> reference = new FieldClassRef<Object>(arrayComponent);
-
-        for (int oneDimIndex = 0; oneDimIndex < oneDimSplitValues.length; oneDimIndex++)
-        {
-            String[] twoDimSplitValues = splitValue(oneDimSplitValues[oneDimIndex], fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_02, null), Pattern.compile("="));
-
-            Object secondDimArray = Array.newInstance(arrayComponent, twoDimSplitValues.length);
-
-            Array.set(arrayOfObjects, oneDimIndex, secondDimArray);
-
-            for (int twoDimIndex = 0; twoDimIndex < twoDimSplitValues.length; twoDimIndex++)
-            {
-                String      valueAsString   = twoDimSplitValues[twoDimIndex];
-                Object      parsedValue     = fieldParser.parseValue(valueAsString, reference, null);
-                Array.set(secondDimArray, twoDimIndex, parsedValue);
-            }
+            arrayComponent = arrayComponent.getComponentType();
         }
-        return ((G) arrayOfObjects);
+        return ArrayMultiDimensionParser.getInstance().parseArray(value, arrayComponent.arrayType().arrayType(), fieldClassRef, defaultValue);
     }
 
     @Override
@@ -138,15 +100,6 @@ public class ArrayTwoDimensionParser implements IFieldParser<Array[][]>
         return (G) object;
     }
 
-    private static String[] splitValue(String input, Pattern spliterator, Pattern nullValue)
-    {
-        if (spliterator == null)
-        {
-            spliterator = nullValue;
-        }
-        return spliterator.split(input, -1);
-    }
-
     private final static ArrayTwoDimensionParser INSTANCE = new ArrayTwoDimensionParser();
 
     public static ArrayTwoDimensionParser getInstance()
@@ -23,13 +23,19 @@
  */
 package git.index.fieldparser.model.parsers;
 
+import git.index.fieldparser.interfaces.IBooleanFieldParser;
 import git.index.fieldparser.interfaces.IFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
 
+import java.text.ParsePosition;
 import java.util.Locale;
 
-public class BooleanParser implements IFieldParser<Boolean>
+public class BooleanParser implements IFieldParser<Boolean>, IBooleanFieldParser
 {
+    private final static int STATE_UNKNOWN = -1;
+    private final static int STATE_FALSE = 0;
+    private final static int STATE_TRUE = 1;
+
     private BooleanParser()
     {
         // singleton class
@@ -53,31 +59,85 @@ public class BooleanParser implements IFieldParser<Boolean>
         {
             return defaultValue;
         }
+        switch (parseState(value))
+        {
+            case STATE_TRUE:
+            {
+                return ((G) ((Boolean) true));
+            }
+            case STATE_FALSE:
+            {
+                return ((G) ((Boolean) false));
+            }
+            default:
+            {
+                return defaultValue;
+            }
+        }
+    }
+
+    @Override
+    public boolean parseBoolean(CharSequence value, boolean defaultValue)
+    {
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        switch (parseState(value.toString()))
+        {
+            case STATE_TRUE:
+            {
+                return true;
+            }
+            case STATE_FALSE:
+            {
+                return false;
+            }
+            default:
+            {
+                return defaultValue;
+            }
+        }
+    }
+
+    @Override
+    public boolean parseBoolean(CharSequence value, ParsePosition parsePosition)
+    {
+        int state = (value == null) ? STATE_UNKNOWN : parseState(value.toString());
+        if (state == STATE_UNKNOWN)
+        {
+            parsePosition.setErrorIndex(0);
+        }
+        return state == STATE_TRUE;
+    }
+
+    private static int parseState(String value)
+    {
         String normalizeString = normalizeValue(value);
         if (normalizeString.length() == 1)
         {
             char charAtZero = normalizeString.charAt(0);
             if (charAtZero == 'y' || charAtZero == '1')
             {
-                return ((G) ((Boolean) true));
+                return STATE_TRUE;
             }
             if (charAtZero == 'n' || charAtZero == '0')
             {
-                return ((G) ((Boolean) false));
+                return STATE_FALSE;
             }
         }
         else
         {
             if (normalizeString.equals("true") || normalizeString.equals("yes") || normalizeString.equals("on"))
             {
-                return ((G) ((Boolean) true));
+                return STATE_TRUE;
             }
             if (normalizeString.equals("false") || normalizeString.equals("no") || normalizeString.equals("off"))
             {
-                return ((G) ((Boolean) false));
+                return STATE_FALSE;
             }
         }
-        return defaultValue;
+        return STATE_UNKNOWN;
     }
 
     public static String normalizeValue(String inputString)
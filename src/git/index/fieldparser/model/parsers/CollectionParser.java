@@ -85,13 +85,14 @@ public class CollectionParser implements IFieldParser<Collection>
         {
             genericClass = fieldClassRef.getActualClassArguments()[0];
         }
-        IFieldParser<?> fieldParser = FieldParserManager.getInstance().applyParserFromClass(Array[].class);
+        FieldParserManager fieldParserManager = FieldParserManager.getManager(fieldClassRef);
+        IFieldParser<?> fieldParser = fieldParserManager.applyParserFromClass(Array[].class);
         if (fieldParser == null)
         {
             _logger.warn("Cannot find parser for 'single array' object.");
             return defaultValue;
         }
-        FieldClassRef<Object[]> objectArrayFieldClassRef = new FieldClassRef<Object[]>(genericClass).withAttribute(FieldAttributes.SPLIT_PATTERN_01, fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_01, null));
+        FieldClassRef<Object[]> objectArrayFieldClassRef = new FieldClassRef<Object[]>(genericClass).withAttribute(FieldAttributes.SPLIT_PATTERN_01, fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_01, null)).withAttribute(FieldAttributes.PARSER_MANAGER, fieldParserManager);
         Object[] objectArray = fieldParser.parseValue(value, objectArrayFieldClassRef, null);
         try
         {
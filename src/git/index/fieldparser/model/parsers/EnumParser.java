@@ -23,12 +23,28 @@
  */
 package git.index.fieldparser.model.parsers;
 
-import git.index.fieldparser.FieldParserManager;
 import git.index.fieldparser.interfaces.IFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.parsers.numbers.IntegerNumberScanner;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public class EnumParser implements IFieldParser<Enum>
 {
+    /**
+     * Lookup table per enum class - built once, constants array is not cloned on every parse.
+     */
+    private final static ClassValue<EnumTable> ENUM_TABLES = new ClassValue<>()
+    {
+        @Override
+        protected EnumTable computeValue(Class<?> type)
+        {
+            return new EnumTable(type.getEnumConstants());
+        }
+    };
+
     private EnumParser()
     {
         // singleton class
@@ -56,25 +72,23 @@ public class EnumParser implements IFieldParser<Enum>
         {
             return defaultValue;
         }
-        Object[] enumValueArray = fieldClassRef.getRawClass().getEnumConstants();
-        IFieldParser<?> fieldParser = FieldParserManager.getInstance().applyParserFromClass(Integer.class);
-        if (fieldParser != null)
-        {
-            Integer ordinalNumber = fieldParser.parseValue(value, new FieldClassRef<Integer>(Integer.class), null);
-            if (ordinalNumber != null)
-            {
-                return ((G) enumValueArray[ordinalNumber]);
-            }
-        }
-        for (Object enumValue : enumValueArray)
+        Object enumValue = ENUM_TABLES.get(fieldClassRef.getRawClass()).getValue(value);
+        return (enumValue == null) ? defaultValue : ((G) enumValue);
+    }
+
+    /**
+     * @param enumClass class of enum
+     * @param value ordinal number or name of enum value (case-insensitive)
+     * @return enum value or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> E getEnumValue(Class<E> enumClass, String value)
+    {
+        if ((value == null) || (enumClass == null) || (!enumClass.isEnum()))
         {
-            if (!enumValue.toString().equalsIgnoreCase(value))
-            {
-                continue;
-            }
-            return ((G) enumValue);
+            return null;
         }
-        return defaultValue;
+        return (E) ENUM_TABLES.get(enumClass).getValue(value);
     }
 
     @Override
@@ -96,6 +110,52 @@ public class EnumParser implements IFieldParser<Enum>
         return ((G) object);
     }
 
+    private final static class EnumTable
+    {
+        private final Object[] _enumValues;
+        /**
+         * Key - {@code toString()} of enum value.
+         */
+        private final Map<String, Object> _enumValuesByName;
+        /**
+         * Key - {@code toString()} of enum value in lower case.
+         */
+        private final Map<String, Object> _enumValuesByLowerCaseName;
+
+        private EnumTable(Object[] enumValues)
+        {
+            _enumValues = enumValues;
+            _enumValuesByName = new HashMap<>(Math.max(16, (int) (enumValues.length / 0.75f) + 1));
+            _enumValuesByLowerCaseName = new HashMap<>(Math.max(16, (int) (enumValues.length / 0.75f) + 1));
+            for (Object enumValue : enumValues)
+            {
+                // first value wins, same as linear search
+                _enumValuesByName.putIfAbsent(enumValue.toString(), enumValue);
+                _enumValuesByLowerCaseName.putIfAbsent(enumValue.toString().toLowerCase(Locale.ROOT), enumValue);
+            }
+        }
+
+        /**
+         * @param value ordinal number or name of enum value (case-insensitive)
+         * @return enum value or {@code null}
+         */
+        private Object getValue(String value)
+        {
+            int ordinalNumber = (int) IntegerNumberScanner.parseLong(value, 0, _enumValues.length - 1, -1);
+            if (ordinalNumber >= 0)
+            {
+                return _enumValues[ordinalNumber];
+            }
+            Object enumValue = _enumValuesByName.get(value);
+            if (enumValue != null)
+            {
+                return enumValue;
+            }
+            // lower case copy is created only if value is written not in the same case as enum value
+            return _enumValuesByLowerCaseName.get(value.toLowerCase(Locale.ROOT));
+        }
+    }
+
     private final static EnumParser INSTANCE = new EnumParser();
 
     public static EnumParser getInstance()
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers;
+
+import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.ValueSplitter;
+import git.index.fieldparser.model.attributes.FieldAttributes;
+
+import java.util.EnumSet;
+import java.util.regex.Pattern;
+
+/**
+ * Parser of {@code EnumSet<E>} fields. Element class is taken from {@code genericClasses}, elements are separated by {@code spliterator01} ({@code ;} by default).
+ * Elements are resolved by lookup table of {@link EnumParser}, set is created by {@link EnumSet#noneOf(Class)} - for enums up to 64 values it is a single {@code long} bitmask.
+ */
+// parsers are registered by raw class, so parser is declared for raw type
+@SuppressWarnings("rawtypes")
+public class EnumSetParser implements IFieldParser<EnumSet>
+{
+    private final static Pattern DEFAULT_SPLIT_PATTERN = Pattern.compile(";");
+
+    private final LoggerImpl _logger;
+
+    private EnumSetParser()
+    {
+        // singleton class
+        _logger = new LoggerImpl(getClass());
+    }
+
+    @Override
+    public Class<EnumSet> getParsableClass()
+    {
+        return EnumSet.class;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        if ((fieldClassRef == null) || (fieldClassRef.getRawClass() == null))
+        {
+            return defaultValue;
+        }
+        if ((fieldClassRef.getActualClassArguments().length == 0) || (!fieldClassRef.getActualClassArguments()[0].isEnum()))
+        {
+            _logger.error("Cannot create an 'EnumSet', because enum class is not presented in 'genericClasses'.");
+            return defaultValue;
+        }
+        Class enumClass = fieldClassRef.getActualClassArguments()[0];
+        EnumSet enumSet = EnumSet.noneOf(enumClass);
+        if (value.isEmpty())
+        {
+            return ((G) enumSet);
+        }
+        Pattern splitPattern = fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_01, DEFAULT_SPLIT_PATTERN);
+        for (String element : ValueSplitter.splitToStrings(value, splitPattern))
+        {
+            String trimmedElement = element.trim();
+            if (trimmedElement.isEmpty())
+            {
+                continue;
+            }
+            Enum enumValue = EnumParser.getEnumValue(enumClass, trimmedElement);
+            if (enumValue == null)
+            {
+                _logger.warn("Cannot find value " + ("['" + trimmedElement + "']") + " in enum " + ("[" + enumClass.getSimpleName() + "]") + ". Value is skipped.");
+                continue;
+            }
+            enumSet.add(enumValue);
+        }
+        return ((G) enumSet);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <G> G castValue(Object object, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (object == null)
+        {
+            return defaultValue;
+        }
+        if (!getParsableClass().isAssignableFrom(object.getClass()))
+        {
+            return defaultValue;
+        }
+        return ((G) object);
+    }
+
+    private final static EnumSetParser INSTANCE = new EnumSetParser();
+
+    public static EnumSetParser getInstance()
+    {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers;
+
+import git.index.dummylogger.LoggerImpl;
+import git.index.fieldparser.FieldParserManager;
+import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.ValueSplitter;
+import git.index.fieldparser.model.attributes.FieldAttributes;
+
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Parser of maps. Types of key and value are taken from {@code genericClasses} ({@code Map<Integer, Integer>} -> {@code {Integer.class, Integer.class}}).
+ * Entries are split by {@link FieldAttributes#SPLIT_PATTERN_01} (by default - {@code ;}),
+ * key and value of entry - by {@link FieldAttributes#SPLIT_PATTERN_02} (by default - {@code =}).
+ * <p>Example: {@code 1=10;2=20}</p>
+ */
+// parsers are registered by raw class, so parser is declared for raw type
+@SuppressWarnings("rawtypes")
+public class MapParser implements IFieldParser<Map>
+{
+    private final static Pattern DEFAULT_ENTRY_SPLIT_PATTERN = Pattern.compile(";");
+    private final static Pattern DEFAULT_PAIR_SPLIT_PATTERN = Pattern.compile("=");
+
+    private final LoggerImpl _logger;
+
+    private final ConcurrentHashMap<Class<?>, Optional<Constructor<?>>> _constructors;
+
+    private MapParser()
+    {
+        // singleton class
+        _logger = new LoggerImpl(this.getClass());
+        _constructors = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Class<Map> getParsableClass()
+    {
+        return Map.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        if ((fieldClassRef == null) || (!getParsableClass().isAssignableFrom(fieldClassRef.getRawClass())))
+        {
+            return defaultValue;
+        }
+        Class<?> keyClass;
+        Class<?> valueClass;
+        if (fieldClassRef.getActualClassArguments().length < 2)
+        {
+            keyClass = String.class;
+            valueClass = String.class;
+            _logger.warn("Cannot find a generic types of map " + ("[" + fieldClassRef.getRawClass().getSimpleName() + "]") + " . Using a " + ("[" + keyClass.getSimpleName() + ", " + valueClass.getSimpleName() + "]") + " as generic types of map.");
+        }
+        else
+        {
+            keyClass = fieldClassRef.getActualClassArguments()[0];
+            valueClass = fieldClassRef.getActualClassArguments()[1];
+        }
+        // parsers are resolved once for all entries
+        FieldParserManager fieldParserManager = FieldParserManager.getManager(fieldClassRef);
+        IFieldParser<?> keyParser = fieldParserManager.applyParserFromClass(keyClass);
+        IFieldParser<?> valueParser = fieldParserManager.applyParserFromClass(valueClass);
+        if ((keyParser == null) || (valueParser == null))
+        {
+            _logger.error("Cannot parse map of " + ("[" + keyClass.getSimpleName() + ", " + valueClass.getSimpleName() + "]") + " because parser of class " + ("[" + ((keyParser == null) ? keyClass : valueClass).getSimpleName() + "]") + " is not supported!");
+            return defaultValue;
+        }
+        FieldClassRef<Object> keyReference = new FieldClassRef<Object>(keyClass).withAttribute(FieldAttributes.PARSER_MANAGER, fieldParserManager);
+        FieldClassRef<Object> valueReference = new FieldClassRef<Object>(valueClass).withAttribute(FieldAttributes.PARSER_MANAGER, fieldParserManager);
+        Pattern pairSplitPattern = fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_02, DEFAULT_PAIR_SPLIT_PATTERN);
+
+        int[] entryBounds = ValueSplitter.split(value, 0, value.length(), fieldClassRef.getAttribute(FieldAttributes.SPLIT_PATTERN_01, DEFAULT_ENTRY_SPLIT_PATTERN));
+        Map<Object, Object> map = createMap(fieldClassRef.getRawClass(), keyClass, entryBounds.length >> 1);
+        if (map == null)
+        {
+            return defaultValue;
+        }
+        for (int index = 0; index < entryBounds.length; index += 2)
+        {
+            int entryStart = entryBounds[index];
+            int entryEnd = entryBounds[index + 1];
+            int[] pairBounds = ValueSplitter.split(value, entryStart, entryEnd, pairSplitPattern);
+            if (pairBounds.length < 4)
+            {
+                _logger.error("Cannot add entry " + ("['" + value.substring(entryStart, entryEnd) + "']") + " into map, because entry do not contain a value.");
+                continue;
+            }
+            Object parsedKey = keyParser.parseValue(value.substring(pairBounds[0], pairBounds[1]).trim(), keyReference, null);
+            if (parsedKey == null)
+            {
+                _logger.error("Cannot add entry " + ("['" + value.substring(entryStart, entryEnd) + "']") + " into map, because parsed key is null.");
+                continue;
+            }
+            // value is a rest of entry - separator can be presented inside of value
+            Object parsedValue = valueParser.parseValue(value.substring(pairBounds[2], entryEnd).trim(), valueReference, null);
+            if (parsedValue == null)
+            {   // concurrent maps do not accept null values
+                _logger.error("Cannot add entry " + ("['" + value.substring(entryStart, entryEnd) + "']") + " into map, because parsed value is null.");
+                continue;
+            }
+            map.put(parsedKey, parsedValue);
+        }
+        if (fieldClassRef.getAttribute(FieldAttributes.UNMODIFIABLE, Boolean.FALSE))
+        {
+            return ((G) toUnmodifiableMap(fieldClassRef.getRawClass(), map));
+        }
+        return ((G) map);
+    }
+
+    /**
+     * Read-only view can be assigned only into field with interface type.
+     */
+    private Map<Object, Object> toUnmodifiableMap(Class<?> mapClass, Map<Object, Object> map)
+    {
+        if (mapClass == Map.class)
+        {
+            return Collections.unmodifiableMap(map);
+        }
+        if ((mapClass == SortedMap.class) || (mapClass == NavigableMap.class))
+        {
+            return Collections.unmodifiableNavigableMap((NavigableMap<Object, Object>) map);
+        }
+        _logger.warn("Cannot create a read-only map for field with class " + ("[" + mapClass.getSimpleName() + "]") + ". Use a 'Map' as type of field. Map will be modifiable.");
+        return map;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <G> G castValue(Object object, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (object == null)
+        {
+            return defaultValue;
+        }
+        if (!getParsableClass().isAssignableFrom(object.getClass()))
+        {
+            return defaultValue;
+        }
+        return ((G) object);
+    }
+
+    /**
+     * @param expectedSize count of entries - map is created with capacity, which do not require resizing
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Map<Object, Object> createMap(Class<?> mapClass, Class<?> keyClass, int expectedSize)
+    {
+        int initialCapacity = (int) (expectedSize / 0.75F) + 1;
+        if ((mapClass == Map.class) || (mapClass == HashMap.class))
+        {
+            return new HashMap<>(initialCapacity);
+        }
+        if (mapClass == LinkedHashMap.class)
+        {
+            return new LinkedHashMap<>(initialCapacity);
+        }
+        if ((mapClass == TreeMap.class) || (mapClass == SortedMap.class) || (mapClass == NavigableMap.class))
+        {
+            return new TreeMap<>();
+        }
+        if ((mapClass == ConcurrentHashMap.class) || (mapClass == ConcurrentMap.class))
+        {
+            return new ConcurrentHashMap<>(initialCapacity);
+        }
+        if (mapClass == EnumMap.class)
+        {
+            if (!keyClass.isEnum())
+            {
+                _logger.error("Cannot create an 'EnumMap', because key class " + ("[" + keyClass.getSimpleName() + "]") + " is not enum.");
+                return null;
+            }
+            return new EnumMap(keyClass);
+        }
+        Constructor<?> constructor = _constructors.computeIfAbsent(mapClass, this::findAConstructor).orElse(null);
+        if (constructor == null)
+        {
+            return null;
+        }
+        try
+        {
+            return (Map<Object, Object>) constructor.newInstance();
+        }
+        catch (ReflectiveOperationException e)
+        {
+            _logger.error("Cannot create a map of " + ("[" + mapClass.getSimpleName() + "]") + ".", e);
+            return null;
+        }
+    }
+
+    private Optional<Constructor<?>> findAConstructor(Class<?> mapClass)
+    {
+        try
+        {
+            Constructor<?> constructor = mapClass.getConstructor();
+            constructor.setAccessible(true);
+            return Optional.of(constructor);
+        }
+        catch (NoSuchMethodException e)
+        {
+            _logger.error("Cannot find a zero arguments constructor for class " + ("[" + mapClass + "]") + ".", e);
+            return Optional.empty();
+        }
+    }
+
+    private final static MapParser INSTANCE = new MapParser();
+
+    public static MapParser getInstance()
+    {
+        return INSTANCE;
+    }
+}
@@ -47,7 +47,7 @@ public class StringParser implements IFieldParser<String>
         {
             return defaultValue;
         }
-        if ((fieldClassRef == null) || (fieldClassRef.getRawClass() != getParsableClass()))
+        if ((fieldClassRef == null) || (!fieldClassRef.getRawClass().isAssignableFrom(getParsableClass())))
         {
             return defaultValue;
         }
@@ -0,0 +1,493 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers.numbers;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass parser of decimal numbers, which works directly on {@link CharSequence}.
+ * Accepts same separators as {@link IntegerNumberScanner}, {@code .} or {@code ,} as decimal separator and scientific notation ({@code 1.5e-3}).
+ * <p>
+ * Result is correctly rounded: exact values are computed with a single floating-point operation (Clinger fast path),
+ * other values - with 128-bit approximation of power of ten (Eisel-Lemire).
+ * Rare ambiguous and subnormal values fall back to {@link Double#parseDouble(String)} / {@link Float#parseFloat(String)}.
+ * <p>
+ * Unit suffixes are accepted too: {@code k} / {@code M} / {@code G} are exact (folded into decimal exponent),
+ * {@code KiB} / {@code MiB} / {@code GiB} are exact powers of two, time suffixes are converted with one more rounding
+ * (only if base unit is given).
+ */
+public final class DecimalNumberScanner
+{
+    /**
+     * Marker of failed parsing. Parsers do not produce {@code NaN}, so any {@code NaN} bits are free.
+     */
+    private final static long FAILURE = 0x7FF0_0000_0000_0001L;
+
+    /**
+     * 19 digits always fit into unsigned {@code long}, mantissa is treated as unsigned value.
+     */
+    private final static int MAX_MANTISSA_DIGITS = 19;
+
+    private final static int MIN_EXPONENT = -342;
+    private final static int MAX_EXPONENT = 308;
+
+    private final static double[] DOUBLE_POWERS_OF_TEN =
+            {
+                    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+            };
+    private final static float[] FLOAT_POWERS_OF_TEN =
+            {
+                    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+            };
+
+    private DecimalNumberScanner()
+    {
+        // utility class
+    }
+
+    /**
+     * @param value raw value
+     * @param defaultValue value, which returned if input is not a number or out of {@code double} range
+     * @return parsed value or {@code defaultValue}
+     */
+    public static double parseDouble(CharSequence value, double defaultValue)
+    {
+        return parseDouble(value, defaultValue, null);
+    }
+
+    /**
+     * @param value raw value
+     * @param defaultValue value, which returned if input is not a number or out of {@code double} range
+     * @param baseUnit unit, into which values with time suffix are converted, or {@code null} - if time suffixes are not allowed
+     * @return parsed value or {@code defaultValue}
+     */
+    public static double parseDouble(CharSequence value, double defaultValue, TimeUnit baseUnit)
+    {
+        long bits = parseBits(value, false, baseUnit, null);
+        return (bits == FAILURE) ? defaultValue : Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @param value raw value
+     * @param defaultValue value, which returned if input is not a number or out of {@code float} range
+     * @return parsed value or {@code defaultValue}
+     */
+    public static float parseFloat(CharSequence value, float defaultValue)
+    {
+        return parseFloat(value, defaultValue, null);
+    }
+
+    /**
+     * @param value raw value
+     * @param defaultValue value, which returned if input is not a number or out of {@code float} range
+     * @param baseUnit unit, into which values with time suffix are converted, or {@code null} - if time suffixes are not allowed
+     * @return parsed value or {@code defaultValue}
+     */
+    public static float parseFloat(CharSequence value, float defaultValue, TimeUnit baseUnit)
+    {
+        long bits = parseBits(value, true, baseUnit, null);
+        return (bits == FAILURE) ? defaultValue : Float.intBitsToFloat((int) bits);
+    }
+
+    /**
+     * @param fallbackBuilder {@code null} on first pass. If fast paths cannot give a correctly rounded result,
+     *                        value will be scanned again and collected into builder for JDK parser.
+     * @return bits of {@code double} / {@code float} or {@link #FAILURE}
+     */
+    private static long parseBits(CharSequence value, boolean isFloat, TimeUnit baseUnit, StringBuilder fallbackBuilder)
+    {
+        if (value == null)
+        {
+            return FAILURE;
+        }
+        int length = value.length();
+        boolean isNegative = false;
+        boolean isDigitFound = false;
+        boolean isSeparatorFound = false;
+        boolean isTruncated = false;
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int exponent10 = 0;
+        boolean isExponentFound = false;
+        NumberSuffix suffix = null;
+        int index = 0;
+        for (; index < length; index++)
+        {
+            char charByIndex = value.charAt(index);
+            if ((charByIndex >= '0') && (charByIndex <= '9'))
+            {
+                if (fallbackBuilder != null)
+                {
+                    fallbackBuilder.append(charByIndex);
+                }
+                isDigitFound = true;
+                if ((mantissa == 0) && (charByIndex == '0'))
+                {   // leading zeros are not significant
+                    if (isSeparatorFound)
+                    {
+                        exponent10 -= 1;
+                    }
+                    continue;
+                }
+                if (mantissaDigits < MAX_MANTISSA_DIGITS)
+                {
+                    mantissa = (mantissa * 10) + (charByIndex - '0');
+                    mantissaDigits += 1;
+                    if (isSeparatorFound)
+                    {
+                        exponent10 -= 1;
+                    }
+                    continue;
+                }
+                // digit does not fit into mantissa
+                isTruncated |= (charByIndex != '0');
+                if (!isSeparatorFound)
+                {
+                    exponent10 += 1;
+                }
+                continue;
+            }
+            switch (charByIndex)
+            {
+                case '-':
+                {
+                    if ((!isDigitFound) && (!isNegative) && (!isSeparatorFound))
+                    {
+                        isNegative = true;
+                        if (fallbackBuilder != null)
+                        {
+                            fallbackBuilder.append('-');
+                        }
+                    }
+                    // maybe someone wanna type 880-555-35-35
+                    continue;
+                }
+                case '.':
+                case ',':
+                {
+                    if (isSeparatorFound)
+                    {
+                        return FAILURE;
+                    }
+                    isSeparatorFound = true;
+                    if (fallbackBuilder != null)
+                    {
+                        fallbackBuilder.append('.');
+                    }
+                    continue;
+                }
+                case '_':
+                {
+                    continue;
+                }
+                case '&':
+                {
+                    if (IntegerNumberScanner.isNbsp(value, index))
+                    {
+                        index += IntegerNumberScanner.NBSP.length() - 1;
+                        continue;
+                    }
+                    return FAILURE;
+                }
+                default:
+                {
+                    break;
+                }
+            }
+            if (charByIndex <= ' ')
+            {   // whitespaces and control characters
+                continue;
+            }
+            if (!isDigitFound)
+            {
+                return FAILURE;
+            }
+            if ((charByIndex == 'e') || (charByIndex == 'E'))
+            {
+                isExponentFound = true;
+                break;
+            }
+            suffix = NumberSuffix.find(value, index);
+            if (suffix == null)
+            {
+                return FAILURE;
+            }
+            break;
+        }
+        if (!isDigitFound)
+        {
+            return FAILURE;
+        }
+        int explicitExponent = 0;
+        if (isExponentFound)
+        {
+            boolean isExponentNegative = false;
+            boolean isExponentDigitFound = false;
+            int exponent = 0;
+            for (index += 1; index < length; index++)
+            {
+                char charByIndex = value.charAt(index);
+                if ((charByIndex >= '0') && (charByIndex <= '9'))
+                {
+                    isExponentDigitFound = true;
+                    if (exponent < 100_000)
+                    {   // anything bigger is zero or infinity anyway
+                        exponent = (exponent * 10) + (charByIndex - '0');
+                    }
+                    continue;
+                }
+                if (((charByIndex == '-') || (charByIndex == '+')) && (!isExponentDigitFound))
+                {
+                    isExponentNegative = (charByIndex == '-');
+                    continue;
+                }
+                if ((charByIndex <= ' ') || (charByIndex == '_'))
+                {
+                    continue;
+                }
+                if (!isExponentDigitFound)
+                {
+                    return FAILURE;
+                }
+                suffix = NumberSuffix.find(value, index);
+                if (suffix == null)
+                {
+                    return FAILURE;
+                }
+                break;
+            }
+            if (!isExponentDigitFound)
+            {
+                return FAILURE;
+            }
+            explicitExponent = isExponentNegative ? -exponent : exponent;
+        }
+        if (suffix != null)
+        {   // 1.5k == 1.5e3 - exact
+            explicitExponent += suffix.getDecimalExponent();
+        }
+        exponent10 += explicitExponent;
+        if (fallbackBuilder != null)
+        {
+            fallbackBuilder.append('e').append(explicitExponent);
+            return applySuffix(parseFallback(fallbackBuilder.toString(), isFloat), isFloat, suffix, baseUnit);
+        }
+        if (mantissa == 0)
+        {
+            return isNegative ? (isFloat ? Float.floatToRawIntBits(-0.0f) & 0xFFFF_FFFFL : Double.doubleToRawLongBits(-0.0d)) : 0L;
+        }
+        long bits = isFloat ? parseFloatBits(mantissa, exponent10, isTruncated) : parseDoubleBits(mantissa, exponent10, isTruncated);
+        if (bits == FAILURE)
+        {
+            return parseBits(value, isFloat, baseUnit, new StringBuilder(length));
+        }
+        if (isNegative)
+        {
+            bits |= isFloat ? 0x8000_0000L : 0x8000_0000_0000_0000L;
+        }
+        return applySuffix(bits, isFloat, suffix, baseUnit);
+    }
+
+    /**
+     * Applies binary and time suffixes (decimal suffixes are already applied to exponent).
+     */
+    private static long applySuffix(long bits, boolean isFloat, NumberSuffix suffix, TimeUnit baseUnit)
+    {
+        if ((bits == FAILURE) || (suffix == null) || (suffix.getDecimalExponent() != 0))
+        {
+            return bits;
+        }
+        if (suffix.isTimeSuffix() && (baseUnit == null))
+        {
+            return FAILURE;
+        }
+        long factor = suffix.getFactor(baseUnit);
+        if (factor == 1)
+        {
+            return bits;
+        }
+        if (isFloat)
+        {
+            double result = Float.intBitsToFloat((int) bits);
+            float scaledResult = (float) ((factor < 0) ? (result / -factor) : (result * factor));
+            return Float.isInfinite(scaledResult) ? FAILURE : (Float.floatToRawIntBits(scaledResult) & 0xFFFF_FFFFL);
+        }
+        double result = Double.longBitsToDouble(bits);
+        double scaledResult = (factor < 0) ? (result / -factor) : (result * factor);
+        return Double.isInfinite(scaledResult) ? FAILURE : Double.doubleToRawLongBits(scaledResult);
+    }
+
+    private static long parseDoubleBits(long mantissa, int exponent10, boolean isTruncated)
+    {
+        if (isTruncated)
+        {   // real value is between mantissa and mantissa + 1
+            long bits = eiselLemire(mantissa, exponent10, 52, 1023, 0x7FF);
+            return ((bits != FAILURE) && (bits == eiselLemire(mantissa + 1, exponent10, 52, 1023, 0x7FF))) ? bits : FAILURE;
+        }
+        if ((mantissa > 0) && (mantissa <= (1L << 53)) && (exponent10 >= -22) && (exponent10 <= 22))
+        {   // both values are exact, so single operation gives a correctly rounded result
+            double result = (exponent10 < 0) ? (mantissa / DOUBLE_POWERS_OF_TEN[-exponent10]) : (mantissa * DOUBLE_POWERS_OF_TEN[exponent10]);
+            return Double.doubleToRawLongBits(result);
+        }
+        return eiselLemire(mantissa, exponent10, 52, 1023, 0x7FF);
+    }
+
+    private static long parseFloatBits(long mantissa, int exponent10, boolean isTruncated)
+    {
+        if (isTruncated)
+        {   // real value is between mantissa and mantissa + 1
+            long bits = eiselLemire(mantissa, exponent10, 23, 127, 0xFF);
+            return ((bits != FAILURE) && (bits == eiselLemire(mantissa + 1, exponent10, 23, 127, 0xFF))) ? bits : FAILURE;
+        }
+        if ((mantissa > 0) && (mantissa <= (1L << 24)) && (exponent10 >= -10) && (exponent10 <= 10))
+        {   // both values are exact, so single operation gives a correctly rounded result
+            float result = (exponent10 < 0) ? (mantissa / FLOAT_POWERS_OF_TEN[-exponent10]) : (mantissa * FLOAT_POWERS_OF_TEN[exponent10]);
+            return Float.floatToRawIntBits(result) & 0xFFFF_FFFFL;
+        }
+        return eiselLemire(mantissa, exponent10, 23, 127, 0xFF);
+    }
+
+    /**
+     * Eisel-Lemire algorithm. Computes {@code mantissa * 10^exponent10} with 128-bit approximation of power of ten.
+     * @return bits of positive value or {@link #FAILURE}, if result cannot be proven correctly rounded or it is subnormal / infinite
+     */
+    private static long eiselLemire(long mantissa, int exponent10, int mantissaBits, int exponentBias, int maxExponent)
+    {
+        if ((exponent10 < MIN_EXPONENT) || (exponent10 > MAX_EXPONENT))
+        {
+            return FAILURE;
+        }
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        long normalizedMantissa = mantissa << leadingZeros;
+        // (217706 * exponent10) >> 16 == floor(exponent10 * log2(10))
+        long resultExponent = (((217706L * exponent10) >> 16) + 64 + exponentBias) - leadingZeros;
+
+        int powerIndex = (exponent10 - MIN_EXPONENT) << 1;
+        long powerHigh = PowersOfFive.TABLE[powerIndex];
+        long powerLow = PowersOfFive.TABLE[powerIndex + 1];
+
+        long productHigh = unsignedMultiplyHigh(normalizedMantissa, powerHigh);
+        long productLow = normalizedMantissa * powerHigh;
+
+        int shift = 64 - mantissaBits - 3;
+        long shiftMask = (1L << shift) - 1;
+        if (((productHigh & shiftMask) == shiftMask) && (Long.compareUnsigned(productLow + normalizedMantissa, normalizedMantissa) < 0))
+        {   // lower bits are not enough - use wider approximation
+            long secondHigh = unsignedMultiplyHigh(normalizedMantissa, powerLow);
+            long secondLow = normalizedMantissa * powerLow;
+            long mergedHigh = productHigh;
+            long mergedLow = productLow + secondHigh;
+            if (Long.compareUnsigned(mergedLow, productLow) < 0)
+            {
+                mergedHigh += 1;
+            }
+            if (((mergedHigh & shiftMask) == shiftMask) && ((mergedLow + 1) == 0) && (Long.compareUnsigned(secondLow + normalizedMantissa, normalizedMantissa) < 0))
+            {
+                return FAILURE;
+            }
+            productHigh = mergedHigh;
+            productLow = mergedLow;
+        }
+
+        int upperBit = (int) (productHigh >>> 63);
+        long resultMantissa = productHigh >>> (upperBit + shift);
+        resultExponent -= 1 ^ upperBit;
+
+        if ((productLow == 0) && ((productHigh & shiftMask) == 0) && ((resultMantissa & 3) == 1))
+        {   // exactly half-way between two values
+            return FAILURE;
+        }
+
+        resultMantissa += resultMantissa & 1;
+        resultMantissa >>>= 1;
+        if ((resultMantissa >>> (mantissaBits + 1)) > 0)
+        {
+            resultMantissa >>>= 1;
+            resultExponent += 1;
+        }
+        if ((resultExponent <= 0) || (resultExponent >= maxExponent))
+        {
+            return FAILURE;
+        }
+        return (resultExponent << mantissaBits) | (resultMantissa & ((1L << mantissaBits) - 1));
+    }
+
+    private static long parseFallback(String normalizedValue, boolean isFloat)
+    {
+        if (isFloat)
+        {
+            float result = Float.parseFloat(normalizedValue);
+            return Float.isInfinite(result) ? FAILURE : (Float.floatToRawIntBits(result) & 0xFFFF_FFFFL);
+        }
+        double result = Double.parseDouble(normalizedValue);
+        return Double.isInfinite(result) ? FAILURE : Double.doubleToRawLongBits(result);
+    }
+
+    private static long unsignedMultiplyHigh(long first, long second)
+    {
+        return Math.multiplyHigh(first, second) + ((first >> 63) & second) + ((second >> 63) & first);
+    }
+
+    /**
+     * 128-bit approximations of {@code 10^exponent10} for {@link #MIN_EXPONENT}..{@link #MAX_EXPONENT}, stored as high and low words.
+     * Table is built on first use of slow path, values which fit into Clinger fast path do not need it.
+     */
+    private final static class PowersOfFive
+    {
+        private final static long[] TABLE = buildTable();
+
+        private static long[] buildTable()
+        {
+            long[] table = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) << 1];
+            BigInteger limit = BigInteger.ONE.shiftLeft(128);
+            for (int exponent10 = MIN_EXPONENT; exponent10 <= MAX_EXPONENT; exponent10++)
+            {
+                BigInteger approximation;
+                if (exponent10 < 0)
+                {   // rounded up quotient of 2^b / 5^-exponent10
+                    BigInteger powerOfFive = BigInteger.valueOf(5).pow(-exponent10);
+                    int bitLength = powerOfFive.subtract(BigInteger.ONE).bitLength();
+                    int shift = (exponent10 >= -27) ? (bitLength + 127) : ((2 * bitLength) + 128);
+                    approximation = BigInteger.ONE.shiftLeft(shift).divide(powerOfFive).add(BigInteger.ONE);
+                    while (approximation.compareTo(limit) >= 0)
+                    {
+                        approximation = approximation.shiftRight(1);
+                    }
+                }
+                else
+                {   // truncated 5^exponent10
+                    approximation = BigInteger.valueOf(5).pow(exponent10);
+                    int bitLength = approximation.bitLength();
+                    approximation = (bitLength < 128) ? approximation.shiftLeft(128 - bitLength) : approximation.shiftRight(bitLength - 128);
+                }
+                int index = (exponent10 - MIN_EXPONENT) << 1;
+                table[index] = approximation.shiftRight(64).longValue();
+                table[index + 1] = approximation.longValue();
+            }
+            return table;
+        }
+    }
+}
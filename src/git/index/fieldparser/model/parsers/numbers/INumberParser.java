@@ -24,106 +24,36 @@
 package git.index.fieldparser.model.parsers.numbers;
 
 import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.model.FieldClassRef;
 
 import java.math.BigDecimal;
 
+/**
+ * Parser of numbers. Values are parsed in one pass by {@link IntegerNumberScanner} / {@link DecimalNumberScanner}.
+ */
 public interface INumberParser<T> extends IFieldParser<T>
 {
+    /**
+     * @return {@code true} - if value can be parsed into type of parser (without time suffixes)
+     */
     public default boolean isNumber(String input)
     {
-        if (input.isEmpty())
-        {
-            return false;
-        }
-        // default value for 'decimal' numbers ;d
-        // decimal can have a at least 1 dot
-        // integer cannot have a dots in value
-        boolean isDotFound = !isDecimal();
-        for (int index = 0; index < input.length(); index++)
-        {
-            char requestCharacter = input.charAt(index);
-            if (index == 0 && requestCharacter == '-')
-            {
-                continue;
-            }
-            if (requestCharacter == '.')
-            {
-                if (index == 0)
-                {
-                    return false;
-                }
-                if (isDotFound)
-                {
-                    return false;
-                }
-                isDotFound = true;
-                continue;
-            }
-            if (!Character.isDigit(requestCharacter))
-            {
-                return false;
-            }
-        }
-        return true;
+        return parseValue(input, new FieldClassRef<>(getParsableClass()), null) != null;
     }
 
-    public abstract boolean checkLimit(BigDecimal bigDecimal);
-
-    public abstract boolean isDecimal();
-
-    public default String normalizeValueImpl(String inputString)
+    /**
+     * @param value raw value
+     * @return parsed number, or {@code null} - if value cannot be parsed into type of parser
+     */
+    public default BigDecimal parseNumber(String value)
     {
-        return normalizeValue(inputString);
-    }
-
-    public static String normalizeValue(String inputString)
-    {
-        String trimmedString = inputString
-                .replaceAll("&nbsp","")
-                .trim();
-
-        StringBuilder stringBuilder = new StringBuilder(trimmedString.length());
-
-        for (int index = 0; index < trimmedString.length(); index++)
+        T parsedValue = parseValue(value, new FieldClassRef<>(getParsableClass()), null);
+        if (parsedValue == null)
         {
-            char charByIndex = trimmedString.charAt(index);
-            if ((index == 0) && (charByIndex == '-'))
-            {
-                stringBuilder.append(charByIndex);
-                continue;
-            }
-            switch (charByIndex)
-            {
-                case '\n':
-                case '\t':
-                case '\r':
-                case '\0':
-
-                case ' ':
-                // maybe someone wanna type 880-555-35-35
-                case '-':
-                // java style 880_555_35_35
-                case '_':
-                {
-                    continue;
-                }
-                default:
-                {
-                    break;
-                }
-            }
-            stringBuilder.append(charByIndex);
+            return null;
         }
-        return stringBuilder.toString();
-
-//        return inputString
-//                .replaceAll("\n", "")
-//                .replaceAll("\t", "")
-//                .replaceAll("\r", "")
-//                .replaceAll("_", "")
-//                .replaceAll(" ", "")
-//                .replaceAll("\0", "")
-//                .replaceAll("&nbsp","")
-//                .trim();
+        return new BigDecimal(parsedValue.toString());
     }
+
+    public abstract boolean isDecimal();
 }
@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers.numbers;
+
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass parser of integer numbers, which works directly on {@link CharSequence} and does not allocate.
+ * {@code _}, whitespaces, {@code &nbsp} and {@code -} after first digit are skipped, leading {@code -} is a sign.
+ * <p>
+ * Additionally accepts {@code 0x} / {@code 0b} / {@code 0o} prefixes and unit suffixes ({@code 64k}, {@code 512MiB}).
+ * Time suffixes ({@code 30s}) are accepted only with a base unit and only, if value is converted into it without a fraction.
+ */
+public final class IntegerNumberScanner
+{
+    /**
+     * Non-breaking space entity, which is skipped like a whitespace. Shared with {@link DecimalNumberScanner}.
+     */
+    final static String NBSP = "&nbsp";
+
+    private IntegerNumberScanner()
+    {
+        // utility class
+    }
+
+    /**
+     * @param value raw value
+     * @param minValue minimal allowed value (inclusive)
+     * @param maxValue maximal allowed value (inclusive)
+     * @param defaultValue value, which returned if input is not a number or out of range
+     * @return parsed value or {@code defaultValue}
+     */
+    public static long parseLong(CharSequence value, long minValue, long maxValue, long defaultValue)
+    {
+        return parseLong(value, minValue, maxValue, defaultValue, null);
+    }
+
+    /**
+     * @param value raw value
+     * @param minValue minimal allowed value (inclusive)
+     * @param maxValue maximal allowed value (inclusive)
+     * @param defaultValue value, which returned if input is not a number or out of range
+     * @param baseUnit unit, into which values with time suffix are converted, or {@code null} - if time suffixes are not allowed
+     * @return parsed value or {@code defaultValue}
+     */
+    public static long parseLong(CharSequence value, long minValue, long maxValue, long defaultValue, TimeUnit baseUnit)
+    {
+        return parseLong(value, minValue, maxValue, defaultValue, baseUnit, null);
+    }
+
+    /**
+     * Same as {@link #parseLong(CharSequence, long, long, long, TimeUnit)}, but reports result by {@code parsePosition},
+     * so every {@code long} value can be returned - caller does not need a 'failure' value, which cannot be parsed.
+     * @param parsePosition on success - index is set to length of value, on failure - error index is set to position of wrong character
+     * @return parsed value or {@code 0}, if {@link ParsePosition#getErrorIndex()} is set
+     */
+    public static long parseLong(CharSequence value, long minValue, long maxValue, TimeUnit baseUnit, ParsePosition parsePosition)
+    {
+        return parseLong(value, minValue, maxValue, 0L, baseUnit, parsePosition);
+    }
+
+    private static long parseLong(CharSequence value, long minValue, long maxValue, long defaultValue, TimeUnit baseUnit, ParsePosition parsePosition)
+    {
+        if (value == null)
+        {
+            return failed(parsePosition, 0, defaultValue);
+        }
+        int length = value.length();
+        boolean isNegative = false;
+        boolean isDigitFound = false;
+        int radix = 10;
+        // accumulate negative value, like Long.parseLong - Long.MIN_VALUE cannot be presented as positive
+        long limit = -Long.MAX_VALUE;
+        long multiplyLimit = limit / radix;
+        long result = 0;
+        NumberSuffix suffix = null;
+        for (int index = 0; index < length; index++)
+        {
+            char charByIndex = value.charAt(index);
+            int digit = toDigit(charByIndex, radix);
+            if (digit >= 0)
+            {
+                if ((!isDigitFound) && (digit == 0) && (radix == 10) && ((index + 1) < length))
+                {
+                    int prefixRadix = toPrefixRadix(value.charAt(index + 1));
+                    if (prefixRadix != 0)
+                    {   // 0x7F / 0b1010 / 0o755
+                        radix = prefixRadix;
+                        multiplyLimit = limit / radix;
+                        index += 1;
+                        continue;
+                    }
+                }
+                if (result < multiplyLimit)
+                {
+                    return failed(parsePosition, index, defaultValue);
+                }
+                result *= radix;
+                if (result < (limit + digit))
+                {
+                    return failed(parsePosition, index, defaultValue);
+                }
+                result -= digit;
+                isDigitFound = true;
+                continue;
+            }
+            switch (charByIndex)
+            {
+                case '-':
+                {
+                    if ((!isDigitFound) && (!isNegative))
+                    {
+                        isNegative = true;
+                        limit = Long.MIN_VALUE;
+                        multiplyLimit = limit / radix;
+                    }
+                    // maybe someone wanna type 880-555-35-35
+                    continue;
+                }
+                case '\n':
+                case '\t':
+                case '\r':
+                case '\0':
+                case ' ':
+                // java style 880_555_35_35
+                case '_':
+                {
+                    continue;
+                }
+                case '&':
+                {
+                    if (isNbsp(value, index))
+                    {
+                        index += NBSP.length() - 1;
+                        continue;
+                    }
+                    return failed(parsePosition, index, defaultValue);
+                }
+                default:
+                {
+                    break;
+                }
+            }
+            if (charByIndex <= ' ')
+            {   // same as String.trim()
+                continue;
+            }
+            if (!isDigitFound)
+            {
+                return failed(parsePosition, index, defaultValue);
+            }
+            suffix = NumberSuffix.find(value, index);
+            if (suffix == null)
+            {
+                return failed(parsePosition, index, defaultValue);
+            }
+            break;
+        }
+        if (!isDigitFound)
+        {
+            return failed(parsePosition, length, defaultValue);
+        }
+        long parsedValue = isNegative ? result : -result;
+        if (suffix != null)
+        {
+            if (suffix.isTimeSuffix() && (baseUnit == null))
+            {   // plain number - '30s' is not a count of milliseconds
+                return failed(parsePosition, 0, defaultValue);
+            }
+            long factor = suffix.getFactor(baseUnit);
+            if (factor < 0)
+            {
+                if ((parsedValue % -factor) != 0)
+                {   // 1500ms cannot be stored in seconds
+                    return failed(parsePosition, 0, defaultValue);
+                }
+                parsedValue /= -factor;
+            }
+            else
+            {
+                long multipliedValue = parsedValue * factor;
+                if ((multipliedValue / factor) != parsedValue)
+                {   // overflow
+                    return failed(parsePosition, 0, defaultValue);
+                }
+                parsedValue = multipliedValue;
+            }
+        }
+        if ((parsedValue < minValue) || (parsedValue > maxValue))
+        {
+            return failed(parsePosition, 0, defaultValue);
+        }
+        if (parsePosition != null)
+        {
+            parsePosition.setIndex(length);
+        }
+        return parsedValue;
+    }
+
+    private static long failed(ParsePosition parsePosition, int errorIndex, long defaultValue)
+    {
+        if (parsePosition != null)
+        {
+            parsePosition.setErrorIndex(errorIndex);
+        }
+        return defaultValue;
+    }
+
+    private static int toDigit(char charByIndex, int radix)
+    {
+        int digit;
+        if ((charByIndex >= '0') && (charByIndex <= '9'))
+        {
+            digit = charByIndex - '0';
+        }
+        else if ((radix == 16) && (charByIndex >= 'a') && (charByIndex <= 'f'))
+        {
+            digit = (charByIndex - 'a') + 10;
+        }
+        else if ((radix == 16) && (charByIndex >= 'A') && (charByIndex <= 'F'))
+        {
+            digit = (charByIndex - 'A') + 10;
+        }
+        else
+        {
+            return -1;
+        }
+        return (digit < radix) ? digit : -1;
+    }
+
+    private static int toPrefixRadix(char charByIndex)
+    {
+        switch (charByIndex)
+        {
+            case 'x':
+            case 'X':
+            {
+                return 16;
+            }
+            case 'b':
+            case 'B':
+            {
+                return 2;
+            }
+            case 'o':
+            case 'O':
+            {
+                return 8;
+            }
+            default:
+            {
+                return 0;
+            }
+        }
+    }
+
+    static boolean isNbsp(CharSequence value, int index)
+    {
+        if ((index + NBSP.length()) > value.length())
+        {
+            return false;
+        }
+        for (int offset = 1; offset < NBSP.length(); offset++)
+        {
+            if (value.charAt(index + offset) != NBSP.charAt(offset))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
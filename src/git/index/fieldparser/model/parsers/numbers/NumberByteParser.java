@@ -24,50 +24,15 @@
 package git.index.fieldparser.model.parsers.numbers;
 
 import git.index.fieldparser.model.FieldClassRef;
-
-import java.math.BigDecimal;
+import git.index.fieldparser.model.attributes.FieldAttributes;
 
 public class NumberByteParser implements INumberParser<Byte>
 {
-    public final static BigDecimal BIG_DECIMAL_MIN_VALUE = BigDecimal.valueOf(Byte.MIN_VALUE);
-    public final static BigDecimal BIG_DECIMAL_MAX_VALUE = BigDecimal.valueOf(Byte.MAX_VALUE);
-
     private NumberByteParser()
     {
         // singleton class
     }
 
-    @Override
-    public boolean isNumber(String input)
-    {
-        if (!INumberParser.super.isNumber(input))
-        {
-            return false;
-        }
-        // 127
-        // -128
-        if (input.length() < 3)
-        {
-            return true;
-        }
-        if (input.length() > 3)
-        {
-            return false;
-        }
-        // -128
-        if (input.charAt(0) != '-')
-        {
-            return false;
-        }
-        return true;
-    }
-
-    @Override
-    public boolean checkLimit(BigDecimal bigDecimal)
-    {
-        return ((bigDecimal.compareTo(BIG_DECIMAL_MIN_VALUE) >= 0) || (bigDecimal.compareTo(BIG_DECIMAL_MAX_VALUE) <= 0));
-    }
-
     @Override
     public boolean isDecimal()
     {
@@ -92,17 +57,12 @@ public class NumberByteParser implements INumberParser<Byte>
         {
             return defaultValue;
         }
-        String normalisedValue = normalizeValueImpl(value);
-        if (!isNumber(normalisedValue))
-        {
-            return defaultValue;
-        }
-        BigDecimal bigDecimal = new BigDecimal(normalisedValue);
-        if (!checkLimit(bigDecimal))
+        long parsedValue = IntegerNumberScanner.parseLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE, Long.MIN_VALUE, fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null));
+        if (parsedValue == Long.MIN_VALUE)
         {
             return defaultValue;
         }
-        return ((G) ((Byte) bigDecimal.byteValue()));
+        return ((G) ((Byte) ((byte) parsedValue)));
     }
 
     private final static NumberByteParser INSTANCE = new NumberByteParser();
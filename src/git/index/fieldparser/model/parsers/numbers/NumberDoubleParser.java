@@ -23,50 +23,25 @@
  */
 package git.index.fieldparser.model.parsers.numbers;
 
+import git.index.fieldparser.interfaces.IDoubleFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.attributes.FieldAttributes;
 
-import java.math.BigDecimal;
+import java.text.ParsePosition;
 
-public class NumberDoubleParser implements INumberParser<Double>
+public class NumberDoubleParser implements INumberParser<Double>, IDoubleFieldParser
 {
-    public final static BigDecimal BIG_DECIMAL_MIN_VALUE = BigDecimal.valueOf(-Double.MAX_VALUE);
-    public final static BigDecimal BIG_DECIMAL_MAX_VALUE = BigDecimal.valueOf(Double.MAX_VALUE);
-
-    public final static int DOUBLE_PRECISION_LIMIT = 15;
-
     private NumberDoubleParser()
     {
         // singleton class
     }
 
-    @Override
-    public boolean isNumber(String input)
-    {
-        if (!INumberParser.super.isNumber(input))
-        {
-            return false;
-        }
-        return true;
-    }
-
     @Override
     public boolean isDecimal()
     {
         return true;
     }
 
-    @Override
-    public boolean checkLimit(BigDecimal bigDecimal)
-    {
-        return ((bigDecimal.compareTo(BIG_DECIMAL_MIN_VALUE) >= 0) || (bigDecimal.compareTo(BIG_DECIMAL_MAX_VALUE) <= 0)) && (DOUBLE_PRECISION_LIMIT >= (bigDecimal.precision() + bigDecimal.scale()));
-    }
-
-    @Override
-    public String normalizeValueImpl(String inputString)
-    {
-        return INumberParser.super.normalizeValueImpl(inputString).replaceAll(",", ".");
-    }
-
     @Override
     public Class<Double> getParsableClass()
     {
@@ -85,17 +60,35 @@ public class NumberDoubleParser implements INumberParser<Double>
         {
             return defaultValue;
         }
-        String normalisedValue = normalizeValueImpl(value);
-        if (!isNumber(normalisedValue))
+        double parsedValue = DecimalNumberScanner.parseDouble(value, Double.NaN, fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null));
+        if (Double.isNaN(parsedValue))
         {
             return defaultValue;
         }
-        BigDecimal bigDecimal = new BigDecimal(normalisedValue);
-        if (!checkLimit(bigDecimal))
+        return ((G) ((Double) parsedValue));
+    }
+
+    @Override
+    public double parseDouble(CharSequence value, double defaultValue)
+    {
+        if (value == null)
         {
             return defaultValue;
         }
-        return ((G) ((Double) bigDecimal.doubleValue()));
+        return DecimalNumberScanner.parseDouble(value, defaultValue);
+    }
+
+    @Override
+    public double parseDouble(CharSequence value, ParsePosition parsePosition)
+    {
+        // 'NaN' is never parsed from value, so it marks a failure
+        double parsedValue = DecimalNumberScanner.parseDouble(value, Double.NaN);
+        if (Double.isNaN(parsedValue))
+        {
+            parsePosition.setErrorIndex(0);
+            return 0D;
+        }
+        return parsedValue;
     }
 
     private final static NumberDoubleParser INSTANCE = new NumberDoubleParser();
@@ -24,55 +24,27 @@
 package git.index.fieldparser.model.parsers.numbers;
 
 import git.index.fieldparser.model.FieldClassRef;
-
-import java.math.BigDecimal;
+import git.index.fieldparser.model.attributes.FieldAttributes;
 
 public class NumberFloatParser implements INumberParser<Float>
 {
-    public final static BigDecimal BIG_DECIMAL_MIN_VALUE = BigDecimal.valueOf(-Float.MAX_VALUE);
-    public final static BigDecimal BIG_DECIMAL_MAX_VALUE = BigDecimal.valueOf(Float.MAX_VALUE);
-
-    public final static int FLOAT_PRECISION_LIMIT = 15;
-
     private NumberFloatParser()
     {
         // singleton class
     }
 
-    @Override
-    public boolean isNumber(String input)
-    {
-        if (!INumberParser.super.isNumber(input))
-        {
-            return false;
-        }
-        return true;
-    }
-
     @Override
     public boolean isDecimal()
     {
         return true;
     }
 
-    @Override
-    public boolean checkLimit(BigDecimal bigDecimal)
-    {
-        return ((bigDecimal.compareTo(BIG_DECIMAL_MIN_VALUE) >= 0) || (bigDecimal.compareTo(BIG_DECIMAL_MAX_VALUE) <= 0)) && (FLOAT_PRECISION_LIMIT >= (bigDecimal.precision() + bigDecimal.scale()));
-    }
-
     @Override
     public Class<Float> getParsableClass()
     {
         return Float.class;
     }
 
-    @Override
-    public String normalizeValueImpl(String inputString)
-    {
-        return INumberParser.super.normalizeValueImpl(inputString).replaceAll(",", ".");
-    }
-
     @Override
     @SuppressWarnings("unchecked")
     public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
@@ -85,17 +57,12 @@ public class NumberFloatParser implements INumberParser<Float>
         {
             return defaultValue;
         }
-        String normalisedValue = normalizeValueImpl(value);
-        if (!isNumber(normalisedValue))
-        {
-            return defaultValue;
-        }
-        BigDecimal bigDecimal = new BigDecimal(normalisedValue);
-        if (!checkLimit(bigDecimal))
+        float parsedValue = DecimalNumberScanner.parseFloat(value, Float.NaN, fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null));
+        if (Float.isNaN(parsedValue))
         {
             return defaultValue;
         }
-        return ((G) ((Float) bigDecimal.floatValue()));
+        return ((G) ((Float) parsedValue));
     }
 
     private final static NumberFloatParser INSTANCE = new NumberFloatParser();
@@ -23,51 +23,19 @@
  */
 package git.index.fieldparser.model.parsers.numbers;
 
+import git.index.fieldparser.interfaces.IIntFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.attributes.FieldAttributes;
 
-import java.math.BigDecimal;
+import java.text.ParsePosition;
 
-public class NumberIntegerParser implements INumberParser<Integer>
+public class NumberIntegerParser implements INumberParser<Integer>, IIntFieldParser
 {
-    public final static BigDecimal BIG_DECIMAL_MIN_VALUE = BigDecimal.valueOf(Integer.MIN_VALUE);
-    public final static BigDecimal BIG_DECIMAL_MAX_VALUE = BigDecimal.valueOf(Integer.MAX_VALUE);
-
     private NumberIntegerParser()
     {
         // singleton class
     }
 
-    @Override
-    public boolean isNumber(String input)
-    {
-        if (!INumberParser.super.isNumber(input))
-        {
-            return false;
-        }
-        // 9223372036854775807
-        // -9223372036854775808
-        if (input.length() < 19)
-        {
-            return true;
-        }
-        if (input.length() > 19)
-        {
-            return false;
-        }
-        // -9223372036854775808
-        if (input.charAt(0) != '-')
-        {
-            return false;
-        }
-        return true;
-    }
-
-    @Override
-    public boolean checkLimit(BigDecimal bigDecimal)
-    {
-        return ((bigDecimal.compareTo(BIG_DECIMAL_MIN_VALUE) >= 0) || (bigDecimal.compareTo(BIG_DECIMAL_MAX_VALUE) <= 0));
-    }
-
     @Override
     public boolean isDecimal()
     {
@@ -92,17 +60,28 @@ public class NumberIntegerParser implements INumberParser<Integer>
         {
             return defaultValue;
         }
-        String normalisedValue = normalizeValueImpl(value);
-        if (!isNumber(normalisedValue))
+        long parsedValue = IntegerNumberScanner.parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null));
+        if (parsedValue == Long.MIN_VALUE)
         {
             return defaultValue;
         }
-        BigDecimal bigDecimal = new BigDecimal(normalisedValue);
-        if (!checkLimit(bigDecimal))
+        return ((G) ((Integer) ((int) parsedValue)));
+    }
+
+    @Override
+    public int parseInt(CharSequence value, int defaultValue)
+    {
+        if (value == null)
         {
             return defaultValue;
         }
-        return ((G) ((Integer) bigDecimal.intValue()));
+        return (int) IntegerNumberScanner.parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+    }
+
+    @Override
+    public int parseInt(CharSequence value, ParsePosition parsePosition)
+    {
+        return (int) IntegerNumberScanner.parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE, null, parsePosition);
     }
 
     private final static NumberIntegerParser INSTANCE = new NumberIntegerParser();
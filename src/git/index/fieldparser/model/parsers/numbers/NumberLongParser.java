@@ -23,57 +23,26 @@
  */
 package git.index.fieldparser.model.parsers.numbers;
 
+import git.index.fieldparser.interfaces.ILongFieldParser;
 import git.index.fieldparser.model.FieldClassRef;
+import git.index.fieldparser.model.attributes.FieldAttributes;
 
-import java.math.BigDecimal;
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
 
-public class NumberLongParser implements INumberParser<Long>
+public class NumberLongParser implements INumberParser<Long>, ILongFieldParser
 {
-    public final static BigDecimal BIG_DECIMAL_MIN_VALUE = BigDecimal.valueOf(Long.MIN_VALUE);
-    public final static BigDecimal BIG_DECIMAL_MAX_VALUE = BigDecimal.valueOf(Long.MAX_VALUE);
-
     private NumberLongParser()
     {
         // singleton class
     }
 
-    @Override
-    public boolean isNumber(String input)
-    {
-        if (!INumberParser.super.isNumber(input))
-        {
-            return false;
-        }
-        // 9223372036854775807
-        // -9223372036854775808
-        if (input.length() < 19)
-        {
-            return true;
-        }
-        if (input.length() > 19)
-        {
-            return false;
-        }
-        // -9223372036854775808
-        if (input.charAt(0) != '-')
-        {
-            return false;
-        }
-        return true;
-    }
-
     @Override
     public boolean isDecimal()
     {
         return false;
     }
 
-    @Override
-    public boolean checkLimit(BigDecimal bigDecimal)
-    {
-        return ((bigDecimal.compareTo(BIG_DECIMAL_MIN_VALUE) >= 0) || (bigDecimal.compareTo(BIG_DECIMAL_MAX_VALUE) <= 0));
-    }
-
     @Override
     public Class<Long> getParsableClass()
     {
@@ -92,17 +61,31 @@ public class NumberLongParser implements INumberParser<Long>
         {
             return defaultValue;
         }
-        String normalisedValue = normalizeValueImpl(value);
-        if (!isNumber(normalisedValue))
+        TimeUnit baseUnit = fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null);
+        // every long value is valid - failure is reported by parse position
+        ParsePosition parsePosition = new ParsePosition(0);
+        long parsedValue = IntegerNumberScanner.parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE, baseUnit, parsePosition);
+        if (parsePosition.getErrorIndex() != -1)
         {
             return defaultValue;
         }
-        BigDecimal bigDecimal = new BigDecimal(normalisedValue);
-        if (!checkLimit(bigDecimal))
+        return ((G) ((Long) parsedValue));
+    }
+
+    @Override
+    public long parseLong(CharSequence value, long defaultValue)
+    {
+        if (value == null)
         {
             return defaultValue;
         }
-        return ((G) ((Long) bigDecimal.longValue()));
+        return IntegerNumberScanner.parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    @Override
+    public long parseLong(CharSequence value, ParsePosition parsePosition)
+    {
+        return IntegerNumberScanner.parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE, null, parsePosition);
     }
 
     private final static NumberLongParser INSTANCE = new NumberLongParser();
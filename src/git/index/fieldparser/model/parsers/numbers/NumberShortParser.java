@@ -24,56 +24,21 @@
 package git.index.fieldparser.model.parsers.numbers;
 
 import git.index.fieldparser.model.FieldClassRef;
-
-import java.math.BigDecimal;
+import git.index.fieldparser.model.attributes.FieldAttributes;
 
 public class NumberShortParser implements INumberParser<Short>
 {
-    public final static BigDecimal BIG_DECIMAL_MIN_VALUE = BigDecimal.valueOf(Short.MIN_VALUE);
-    public final static BigDecimal BIG_DECIMAL_MAX_VALUE = BigDecimal.valueOf(Short.MAX_VALUE);
-
     private NumberShortParser()
     {
         // singleton class
     }
 
-    @Override
-    public boolean isNumber(String input)
-    {
-        if (!INumberParser.super.isNumber(input))
-        {
-            return false;
-        }
-        // 32767
-        // -32768
-        if (input.length() < 5)
-        {
-            return true;
-        }
-        if (input.length() > 5)
-        {
-            return false;
-        }
-        // -32768
-        if (input.charAt(0) != '-')
-        {
-            return false;
-        }
-        return true;
-    }
-
     @Override
     public boolean isDecimal()
     {
         return false;
     }
 
-    @Override
-    public boolean checkLimit(BigDecimal bigDecimal)
-    {
-        return ((bigDecimal.compareTo(BIG_DECIMAL_MIN_VALUE) >= 0) || (bigDecimal.compareTo(BIG_DECIMAL_MAX_VALUE) <= 0));
-    }
-
     @Override
     public Class<Short> getParsableClass()
     {
@@ -92,17 +57,12 @@ public class NumberShortParser implements INumberParser<Short>
         {
             return defaultValue;
         }
-        String normalisedValue = normalizeValueImpl(value);
-        if (!isNumber(normalisedValue))
-        {
-            return defaultValue;
-        }
-        BigDecimal bigDecimal = new BigDecimal(normalisedValue);
-        if (!checkLimit(bigDecimal))
+        long parsedValue = IntegerNumberScanner.parseLong(value, Short.MIN_VALUE, Short.MAX_VALUE, Long.MIN_VALUE, fieldClassRef.getAttribute(FieldAttributes.TIME_UNIT, null));
+        if (parsedValue == Long.MIN_VALUE)
         {
             return defaultValue;
         }
-        return ((G) ((Short) bigDecimal.shortValue()));
+        return ((G) ((Short) ((short) parsedValue)));
     }
 
     private final static NumberShortParser INSTANCE = new NumberShortParser();
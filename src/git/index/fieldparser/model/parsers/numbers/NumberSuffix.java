@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers.numbers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit suffixes, which can follow a number ({@code 64k}, {@code 512MiB}, {@code 30s}).
+ * Suffixes are case-sensitive - {@code m} is a minute and {@code M} is a mega.
+ */
+enum NumberSuffix
+{
+    KILO("k", 3, 0, null),
+    KILO_UPPER("K", 3, 0, null),
+    MEGA("M", 6, 0, null),
+    GIGA("G", 9, 0, null),
+
+    KIBI("KiB", 0, 10, null),
+    MEBI("MiB", 0, 20, null),
+    GIBI("GiB", 0, 30, null),
+
+    MILLISECONDS("ms", 0, 0, TimeUnit.MILLISECONDS),
+    SECONDS("s", 0, 0, TimeUnit.SECONDS),
+    MINUTES("m", 0, 0, TimeUnit.MINUTES),
+    HOURS("h", 0, 0, TimeUnit.HOURS),
+    ;
+
+    private final static NumberSuffix[] VALUES = values();
+
+    private final String _symbol;
+    private final int _decimalExponent;
+    private final int _binaryExponent;
+    private final TimeUnit _timeUnit;
+
+    NumberSuffix(String symbol, int decimalExponent, int binaryExponent, TimeUnit timeUnit)
+    {
+        _symbol = symbol;
+        _decimalExponent = decimalExponent;
+        _binaryExponent = binaryExponent;
+        _timeUnit = timeUnit;
+    }
+
+    public int getDecimalExponent()
+    {
+        return _decimalExponent;
+    }
+
+    public int getBinaryExponent()
+    {
+        return _binaryExponent;
+    }
+
+    /**
+     * @return {@code true} - for {@code ms}, {@code s}, {@code m}, {@code h}. Such suffixes are accepted only, if number has a time unit.
+     */
+    public boolean isTimeSuffix()
+    {
+        return _timeUnit != null;
+    }
+
+    /**
+     * @param baseUnit unit, in which value is stored (not {@code null} for {@link #isTimeSuffix()})
+     * @return positive multiplier or negative divisor, which converts value with this suffix into base unit
+     */
+    public long getFactor(TimeUnit baseUnit)
+    {
+        if (_timeUnit == null)
+        {
+            long factor = 1L << _binaryExponent;
+            for (int exponent = 0; exponent < _decimalExponent; exponent++)
+            {
+                factor *= 10;
+            }
+            return factor;
+        }
+        if (_timeUnit.compareTo(baseUnit) >= 0)
+        {   // suffix unit is coarser than base unit - 2h into millis
+            return baseUnit.convert(1, _timeUnit);
+        }
+        // suffix unit is finer than base unit - 1500ms into seconds (integer value, which is not divisible, is rejected by caller)
+        return -_timeUnit.convert(1, baseUnit);
+    }
+
+    /**
+     * @param value raw value
+     * @param start index of first suffix character
+     * @return suffix, which fills a rest of value (trailing whitespaces are ignored), or {@code null}
+     */
+    public static NumberSuffix find(CharSequence value, int start)
+    {
+        int end = value.length();
+        while ((end > start) && (value.charAt(end - 1) <= ' '))
+        {
+            end -= 1;
+        }
+        int suffixLength = end - start;
+        for (NumberSuffix suffix : VALUES)
+        {
+            String symbol = suffix._symbol;
+            if (symbol.length() != suffixLength)
+            {
+                continue;
+            }
+            boolean isMatched = true;
+            for (int offset = 0; offset < suffixLength; offset++)
+            {
+                if (value.charAt(start + offset) != symbol.charAt(offset))
+                {
+                    isMatched = false;
+                    break;
+                }
+            }
+            if (isMatched)
+            {
+                return suffix;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.pipeline;
+
+import git.index.fieldparser.FieldParserManager;
+import git.index.fieldparser.annotations.ParserPipeline;
+import git.index.fieldparser.interfaces.ICharNormalizer;
+import git.index.fieldparser.interfaces.IFieldParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Builder of parser, which is composed from stages: normalize -> parse -> validate -> transform.
+ * Stages are fused by {@link #build()} into one {@link IFieldParser}:
+ * <ul>
+ *   <li>character normalizers are merged into one lookup table - value is normalized by one pass;</li>
+ *   <li>validators and transformers are stored in arrays - no lambda chains are created.</li>
+ * </ul>
+ * <pre>{@code
+ * IFieldParser<Level> parser = FieldParserPipeline.of(Level.class).trim().lowerCase().cache(16).build();
+ * }</pre>
+ * @param <T> type of parsed value
+ */
+public final class FieldParserPipeline<T>
+{
+    private final Class<T> _parsableClass;
+
+    private boolean _trim;
+    private final List<ICharNormalizer> _charNormalizers;
+    private IFieldParser<?> _fieldParser;
+    private final List<Predicate<? super T>> _validators;
+    private final List<Function<? super T, ? extends T>> _transformers;
+    private int _cacheSize;
+
+    private FieldParserPipeline(Class<T> parsableClass)
+    {
+        _parsableClass = Objects.requireNonNull(parsableClass, "parsableClass");
+        _charNormalizers = new ArrayList<>();
+        _validators = new ArrayList<>();
+        _transformers = new ArrayList<>();
+    }
+
+    public static <T> FieldParserPipeline<T> of(Class<T> parsableClass)
+    {
+        return new FieldParserPipeline<>(parsableClass);
+    }
+
+    /**
+     * Creates pipeline, declared by annotation of field.
+     * @param fieldParser parser of field class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> IFieldParser<T> fromAnnotation(Class<T> parsableClass, ParserPipeline parserPipeline, IFieldParser<?> fieldParser)
+    {
+        FieldParserPipeline<T> pipeline = of(parsableClass).parseWith(fieldParser).cache(parserPipeline.cacheSize());
+        if (parserPipeline.trim())
+        {
+            pipeline.trim();
+        }
+        if (parserPipeline.charCase() == ParserPipeline.CharCase.LOWER)
+        {
+            pipeline.lowerCase();
+        }
+        else if (parserPipeline.charCase() == ParserPipeline.CharCase.UPPER)
+        {
+            pipeline.upperCase();
+        }
+        if (!parserPipeline.removeCharacters().isEmpty())
+        {
+            pipeline.removeCharacters(parserPipeline.removeCharacters());
+        }
+        return pipeline.build();
+    }
+
+    public FieldParserPipeline<T> trim()
+    {
+        _trim = true;
+        return this;
+    }
+
+    public FieldParserPipeline<T> lowerCase()
+    {
+        return normalize(Character::toLowerCase);
+    }
+
+    public FieldParserPipeline<T> upperCase()
+    {
+        return normalize(Character::toUpperCase);
+    }
+
+    public FieldParserPipeline<T> removeCharacters(String removedCharacters)
+    {
+        return normalize(character -> (removedCharacters.indexOf(character) == -1) ? character : ICharNormalizer.DROP_CHARACTER);
+    }
+
+    public FieldParserPipeline<T> replaceCharacter(char oldCharacter, char newCharacter)
+    {
+        return normalize(character -> (character == oldCharacter) ? newCharacter : character);
+    }
+
+    /**
+     * Normalizers are applied in order of adding.
+     */
+    public FieldParserPipeline<T> normalize(ICharNormalizer charNormalizer)
+    {
+        _charNormalizers.add(Objects.requireNonNull(charNormalizer, "charNormalizer"));
+        return this;
+    }
+
+    /**
+     * @param fieldParser parser of normalized value. If not set - parser is taken from global registry on {@link #build()}.
+     */
+    public FieldParserPipeline<T> parseWith(IFieldParser<?> fieldParser)
+    {
+        _fieldParser = fieldParser;
+        return this;
+    }
+
+    /**
+     * Value, which not passed validation, is replaced by default value.
+     */
+    public FieldParserPipeline<T> validate(Predicate<? super T> validator)
+    {
+        _validators.add(Objects.requireNonNull(validator, "validator"));
+        return this;
+    }
+
+    public FieldParserPipeline<T> transform(Function<? super T, ? extends T> transformer)
+    {
+        _transformers.add(Objects.requireNonNull(transformer, "transformer"));
+        return this;
+    }
+
+    /**
+     * @param cacheSize max count of cached parsed values (by raw value). Parsed values should be immutable.
+     */
+    public FieldParserPipeline<T> cache(int cacheSize)
+    {
+        _cacheSize = Math.max(0, cacheSize);
+        return this;
+    }
+
+    public IFieldParser<T> build()
+    {
+        IFieldParser<?> fieldParser = _fieldParser;
+        if (fieldParser == null)
+        {
+            fieldParser = FieldParserManager.getInstance().applyParserFromClass(_parsableClass);
+        }
+        if (fieldParser == null)
+        {
+            throw new IllegalStateException("Cannot build a pipeline of " + ("[" + _parsableClass.getSimpleName() + "]") + " because parser of class is not supported!");
+        }
+        // generic arrays cannot be created - parser keeps steps in raw arrays
+        @SuppressWarnings("rawtypes")
+        Predicate[] validators = _validators.toArray(new Predicate[0]);
+        @SuppressWarnings("rawtypes")
+        Function[] transformers = _transformers.toArray(new Function[0]);
+        return new PipelineFieldParser<>(_parsableClass, _trim, _charNormalizers.toArray(new ICharNormalizer[0]), fieldParser, validators, transformers, _cacheSize);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FieldParserPipeline(" + _parsableClass.getSimpleName() + ")";
+    }
+}
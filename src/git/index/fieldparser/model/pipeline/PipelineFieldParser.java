@@ -0,0 +1,275 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.pipeline;
+
+import git.index.fieldparser.interfaces.ICharNormalizer;
+import git.index.fieldparser.interfaces.IFieldParser;
+import git.index.fieldparser.model.FieldClassRef;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Parser, built by {@link FieldParserPipeline}.
+ * @param <T> type of parsed value
+ */
+public final class PipelineFieldParser<T> implements IFieldParser<T>
+{
+    /**
+     * Count of characters, which normalized by table.
+     */
+    private final static int TABLE_SIZE = 128;
+
+    private final Class<T> _parsableClass;
+    private final boolean _trim;
+    /**
+     * Result of all normalizers for ASCII characters ({@link ICharNormalizer#DROP_CHARACTER} - character is removed).
+     * {@code null} - pipeline do not have normalizers.
+     */
+    private final int[] _normalizeTable;
+    private final boolean _identityTable;
+    /**
+     * Normalizers for other characters.
+     */
+    private final ICharNormalizer[] _charNormalizers;
+    private final IFieldParser<?> _fieldParser;
+    private final Predicate<Object>[] _validators;
+    private final Function<Object, Object>[] _transformers;
+
+    private final int _cacheSize;
+    /**
+     * Parsed values by raw value and type of reference - same pipeline can be used for {@code List<Integer>} and {@code List<Long>}.
+     */
+    private final ConcurrentHashMap<CacheKey, Object> _cache;
+    /**
+     * Count of reserved entries in {@link #_cache}. Entry is reserved before it is put, so cache never grows over {@link #_cacheSize}.
+     */
+    private final AtomicInteger _cacheCount;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    PipelineFieldParser(Class<T> parsableClass, boolean trim, ICharNormalizer[] charNormalizers, IFieldParser<?> fieldParser, Predicate[] validators, Function[] transformers, int cacheSize)
+    {
+        _parsableClass = parsableClass;
+        _trim = trim;
+        _charNormalizers = charNormalizers;
+        _fieldParser = fieldParser;
+        _validators = validators;
+        _transformers = transformers;
+        _cacheSize = cacheSize;
+        _cache = (cacheSize == 0) ? null : new ConcurrentHashMap<>();
+        _cacheCount = new AtomicInteger();
+
+        _normalizeTable = new int[TABLE_SIZE];
+        boolean identityTable = true;
+        for (int character = 0; character < TABLE_SIZE; character++)
+        {
+            int normalized = normalizeCharacter((char) character);
+            _normalizeTable[character] = normalized;
+            identityTable &= (normalized == character);
+        }
+        _identityTable = identityTable && (charNormalizers.length == 0);
+    }
+
+    @Override
+    public Class<T> getParsableClass()
+    {
+        return _parsableClass;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <G> G parseValue(String value, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        if (value == null)
+        {
+            return defaultValue;
+        }
+        CacheKey cacheKey = null;
+        if (_cache != null)
+        {
+            cacheKey = new CacheKey(value, fieldClassRef);
+            Object cachedValue = _cache.get(cacheKey);
+            if (cachedValue != null)
+            {
+                return (G) cachedValue;
+            }
+        }
+        Object parsedValue = _fieldParser.parseValue(normalize(value), (FieldClassRef<Object>) fieldClassRef, null);
+        if (parsedValue == null)
+        {
+            return defaultValue;
+        }
+        for (Predicate<Object> validator : _validators)
+        {
+            if (!validator.test(parsedValue))
+            {
+                return defaultValue;
+            }
+        }
+        for (Function<Object, Object> transformer : _transformers)
+        {
+            parsedValue = transformer.apply(parsedValue);
+            if (parsedValue == null)
+            {
+                return defaultValue;
+            }
+        }
+        if (cacheKey != null)
+        {
+            putCachedValue(cacheKey, parsedValue);
+        }
+        return (G) parsedValue;
+    }
+
+    private void putCachedValue(CacheKey cacheKey, Object parsedValue)
+    {
+        int cacheCount;
+        do
+        {
+            cacheCount = _cacheCount.get();
+            if (cacheCount >= _cacheSize)
+            {
+                return;
+            }
+        }
+        while (!_cacheCount.compareAndSet(cacheCount, cacheCount + 1));
+        if (_cache.putIfAbsent(cacheKey, parsedValue) != null)
+        {   // same value was put by other thread - reserved entry is released
+            _cacheCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public <G> G castValue(Object object, FieldClassRef<G> fieldClassRef, G defaultValue)
+    {
+        return _fieldParser.castValue(object, fieldClassRef, defaultValue);
+    }
+
+    /**
+     * One pass over value. New string is created only if value was changed.
+     */
+    String normalize(String value)
+    {
+        int startIndex = 0;
+        int endIndex = value.length();
+        if (_trim)
+        {
+            while ((startIndex < endIndex) && (value.charAt(startIndex) <= ' '))
+            {
+                startIndex += 1;
+            }
+            while ((endIndex > startIndex) && (value.charAt(endIndex - 1) <= ' '))
+            {
+                endIndex -= 1;
+            }
+        }
+        if (_identityTable)
+        {
+            return ((startIndex == 0) && (endIndex == value.length())) ? value : value.substring(startIndex, endIndex);
+        }
+        char[] normalizedChars = null;
+        int length = 0;
+        for (int index = startIndex; index < endIndex; index++)
+        {
+            char character = value.charAt(index);
+            int normalized = (character < TABLE_SIZE) ? _normalizeTable[character] : normalizeCharacter(character);
+            if ((normalizedChars == null) && (normalized == character))
+            {   // value is not changed yet
+                continue;
+            }
+            if (normalizedChars == null)
+            {
+                normalizedChars = new char[endIndex - startIndex];
+                value.getChars(startIndex, index, normalizedChars, 0);
+                length = index - startIndex;
+            }
+            if (normalized != ICharNormalizer.DROP_CHARACTER)
+            {
+                normalizedChars[length++] = (char) normalized;
+            }
+        }
+        if (normalizedChars == null)
+        {
+            return ((startIndex == 0) && (endIndex == value.length())) ? value : value.substring(startIndex, endIndex);
+        }
+        return new String(normalizedChars, 0, length);
+    }
+
+    private int normalizeCharacter(char character)
+    {
+        int normalized = character;
+        for (ICharNormalizer charNormalizer : _charNormalizers)
+        {
+            normalized = charNormalizer.normalize((char) normalized);
+            if (normalized == ICharNormalizer.DROP_CHARACTER)
+            {
+                return ICharNormalizer.DROP_CHARACTER;
+            }
+        }
+        return normalized;
+    }
+
+    private final static class CacheKey
+    {
+        private final String _value;
+        private final Class<?> _rawClass;
+        private final Class<?>[] _actualClassArguments;
+        private final int _hashCode;
+
+        private CacheKey(String value, FieldClassRef<?> fieldClassRef)
+        {
+            _value = value;
+            _rawClass = (fieldClassRef == null) ? null : fieldClassRef.getRawClass();
+            _actualClassArguments = (fieldClassRef == null) ? null : fieldClassRef.getActualClassArguments();
+            int hashCode = value.hashCode();
+            hashCode = (31 * hashCode) + ((_rawClass == null) ? 0 : _rawClass.hashCode());
+            hashCode = (31 * hashCode) + Arrays.hashCode(_actualClassArguments);
+            _hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (this == object)
+            {
+                return true;
+            }
+            if (!(object instanceof CacheKey cacheKey))
+            {
+                return false;
+            }
+            return (_hashCode == cacheKey._hashCode) && (_rawClass == cacheKey._rawClass) && _value.equals(cacheKey._value)
+                    && Arrays.equals(_actualClassArguments, cacheKey._actualClassArguments);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return _hashCode;
+        }
+    }
+}
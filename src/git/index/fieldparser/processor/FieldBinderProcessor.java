@@ -0,0 +1,350 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.processor;
+
+import git.index.configparser.annotations.AllowedValues;
+import git.index.configparser.annotations.ConfigParameterVariable;
+import git.index.configparser.annotations.ImmutableVariable;
+import git.index.configparser.annotations.MatchPattern;
+import git.index.configparser.annotations.MaxSize;
+import git.index.configparser.annotations.NumberRange;
+import git.index.fieldparser.annotations.FieldParser;
+import git.index.fieldparser.annotations.ParserPipeline;
+import git.index.fieldparser.interfaces.IFieldBinder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates {@link IFieldBinder} for every class, which contains fields marked by
+ * {@link ConfigParameterVariable}, {@link FieldParser} or {@link ImmutableVariable}.
+ * <p>Generated binder assigns non-private fields directly. {@code AbstractFieldParser} will use it instead of
+ * {@code getDeclaredFields()} / {@code privateLookupIn()} / {@code VarHandle}, if binder presented in classpath.
+ * Parameter annotations are not generated - parser reads them once, on first load.</p>
+ */
+public class FieldBinderProcessor extends AbstractProcessor
+{
+    private final Set<String> _generatedBinders = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes()
+    {
+        Set<String> annotationTypes = new LinkedHashSet<>();
+        annotationTypes.add(ConfigParameterVariable.class.getCanonicalName());
+        annotationTypes.add(FieldParser.class.getCanonicalName());
+        annotationTypes.add(ImmutableVariable.class.getCanonicalName());
+        return annotationTypes;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        Set<TypeElement> bindingTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations)
+        {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+            {
+                if (element.getKind() != ElementKind.FIELD)
+                {
+                    continue;
+                }
+                Element enclosingElement = element.getEnclosingElement();
+                if (enclosingElement.getKind() != ElementKind.CLASS)
+                {   // records / enums / interfaces cannot be bound by field assignation
+                    continue;
+                }
+                bindingTypes.add((TypeElement) enclosingElement);
+            }
+        }
+        for (TypeElement bindingType : bindingTypes)
+        {
+            String binderClassName = getBinderClassName(bindingType);
+            if (!_generatedBinders.add(binderClassName))
+            {
+                continue;
+            }
+            try
+            {
+                generateBinder(bindingType, binderClassName);
+            }
+            catch (IOException e)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate field binder " + ("[" + binderClassName + "]") + ". Reason - " + e.getMessage(), bindingType);
+            }
+        }
+        // do not claim annotations - they are still used in runtime
+        return false;
+    }
+
+    private void generateBinder(TypeElement bindingType, String binderClassName) throws IOException
+    {
+        boolean typeAccessible = isTypeAccessible(bindingType);
+        List<VariableElement> directFields = new ArrayList<>();
+        List<VariableElement> reflectiveFields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(bindingType.getEnclosedElements()))
+        {
+            if (field.getModifiers().contains(Modifier.FINAL))
+            {   // cannot change final field
+                continue;
+            }
+            if (typeAccessible && (!field.getModifiers().contains(Modifier.PRIVATE)))
+            {
+                directFields.add(field);
+            }
+            else
+            {
+                reflectiveFields.add(field);
+            }
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(bindingType).getQualifiedName().toString();
+        String simpleBinderName = packageName.isEmpty() ? binderClassName : binderClassName.substring(packageName.length() + 1);
+        String bindingTypeName = processingEnv.getTypeUtils().erasure(bindingType.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty())
+        {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n");
+        source.append(" * Generated by ").append(FieldBinderProcessor.class.getName()).append(" for ").append(bindingTypeName).append(".\n");
+        source.append(" */\n");
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public final class ").append(simpleBinderName).append(" implements ").append(IFieldBinder.class.getName()).append("\n");
+        source.append("{\n");
+        appendNamesArray(source, "FIELD_NAMES", directFields);
+        appendNamesArray(source, "REFLECTIVE_FIELD_NAMES", reflectiveFields);
+        appendFlagsArray(source, "FIELD_FLAGS", directFields);
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public String[] getFieldNames()\n");
+        source.append("    {\n");
+        source.append("        return FIELD_NAMES;\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public int[] getFieldFlags()\n");
+        source.append("    {\n");
+        source.append("        return FIELD_FLAGS;\n");
+        source.append("    }\n\n");
+        source.append("    @Override\n");
+        source.append("    public String[] getReflectiveFieldNames()\n");
+        source.append("    {\n");
+        source.append("        return REFLECTIVE_FIELD_NAMES;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Object getFieldValue(Object instance, int fieldIndex)\n");
+        source.append("    {\n");
+        source.append("        switch (fieldIndex)\n");
+        source.append("        {\n");
+        for (int index = 0; index < directFields.size(); index++)
+        {
+            source.append("            case ").append(index).append(":\n");
+            source.append("                return ").append(getFieldAccess(bindingTypeName, directFields.get(index))).append(";\n");
+        }
+        source.append("            default:\n");
+        source.append("                throw new IllegalArgumentException(\"Unknown field index \" + fieldIndex);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void setFieldValue(Object instance, int fieldIndex, Object value)\n");
+        source.append("    {\n");
+        source.append("        switch (fieldIndex)\n");
+        source.append("        {\n");
+        for (int index = 0; index < directFields.size(); index++)
+        {
+            VariableElement field = directFields.get(index);
+            String fieldTypeName = processingEnv.getTypeUtils().erasure(field.asType()).toString();
+            source.append("            case ").append(index).append(":\n");
+            source.append("                ").append(getFieldAccess(bindingTypeName, field)).append(" = (").append(fieldTypeName).append(") value;\n");
+            source.append("                return;\n");
+        }
+        source.append("            default:\n");
+        source.append("                throw new IllegalArgumentException(\"Unknown field index \" + fieldIndex);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+        appendPrimitiveSetter(source, bindingTypeName, directFields, TypeKind.INT, "setIntFieldValue", "int");
+        appendPrimitiveSetter(source, bindingTypeName, directFields, TypeKind.LONG, "setLongFieldValue", "long");
+        appendPrimitiveSetter(source, bindingTypeName, directFields, TypeKind.DOUBLE, "setDoubleFieldValue", "double");
+        appendPrimitiveSetter(source, bindingTypeName, directFields, TypeKind.BOOLEAN, "setBooleanFieldValue", "boolean");
+        source.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(binderClassName, bindingType).openWriter())
+        {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Generates a typed setter, which assigns primitive fields without boxing. Other indexes are delegated to boxed setter.
+     */
+    private static void appendPrimitiveSetter(StringBuilder source, String bindingTypeName, List<VariableElement> directFields, TypeKind typeKind, String methodName, String typeName)
+    {
+        boolean hasFields = false;
+        for (VariableElement field : directFields)
+        {
+            hasFields |= (field.asType().getKind() == typeKind);
+        }
+        if (!hasFields)
+        {
+            return;
+        }
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public void ").append(methodName).append("(Object instance, int fieldIndex, ").append(typeName).append(" value)\n");
+        source.append("    {\n");
+        source.append("        switch (fieldIndex)\n");
+        source.append("        {\n");
+        for (int index = 0; index < directFields.size(); index++)
+        {
+            VariableElement field = directFields.get(index);
+            if (field.asType().getKind() != typeKind)
+            {
+                continue;
+            }
+            source.append("            case ").append(index).append(":\n");
+            source.append("                ").append(getFieldAccess(bindingTypeName, field)).append(" = value;\n");
+            source.append("                return;\n");
+        }
+        source.append("            default:\n");
+        source.append("                setFieldValue(instance, fieldIndex, value);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+    }
+
+    private String getBinderClassName(TypeElement bindingType)
+    {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(bindingType);
+        String binaryName = processingEnv.getElementUtils().getBinaryName(bindingType).toString();
+        String packageName = packageElement.getQualifiedName().toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        // same as IFieldBinder.getBinderClassName(Class)
+        return (packageName.isEmpty() ? "" : (packageName + ".")) + IFieldBinder.escapeBinaryName(simpleBinaryName) + IFieldBinder.BINDER_CLASS_SUFFIX;
+    }
+
+    private static String getFieldAccess(String bindingTypeName, VariableElement field)
+    {
+        if (field.getModifiers().contains(Modifier.STATIC))
+        {
+            return bindingTypeName + "." + field.getSimpleName();
+        }
+        return "((" + bindingTypeName + ") instance)." + field.getSimpleName();
+    }
+
+    private static void appendNamesArray(StringBuilder source, String arrayName, List<VariableElement> fields)
+    {
+        source.append("    private static final String[] ").append(arrayName).append(" = {");
+        for (int index = 0; index < fields.size(); index++)
+        {
+            source.append((index == 0) ? " " : ", ").append('"').append(fields.get(index).getSimpleName()).append('"');
+        }
+        source.append(fields.isEmpty() ? "};\n" : " };\n");
+    }
+
+    private static void appendFlagsArray(StringBuilder source, String arrayName, List<VariableElement> fields)
+    {
+        source.append("    private static final int[] ").append(arrayName).append(" = {");
+        for (int index = 0; index < fields.size(); index++)
+        {
+            source.append((index == 0) ? " " : ", ").append(getFieldFlags(fields.get(index)));
+        }
+        source.append(fields.isEmpty() ? "};\n" : " };\n");
+    }
+
+    /**
+     * Same flags, as {@code AbstractFieldParser} reads from field through reflection, if binder does not provide them.
+     */
+    private static int getFieldFlags(VariableElement field)
+    {
+        int fieldFlags = 0;
+        if (field.getModifiers().contains(Modifier.PROTECTED))
+        {
+            fieldFlags |= IFieldBinder.FLAG_PROTECTED;
+        }
+        if (field.getModifiers().contains(Modifier.STATIC))
+        {
+            fieldFlags |= IFieldBinder.FLAG_STATIC;
+        }
+        if (field.getAnnotation(ImmutableVariable.class) != null)
+        {
+            fieldFlags |= IFieldBinder.FLAG_IMMUTABLE_VARIABLE;
+        }
+        if ((field.getAnnotation(NumberRange.class) != null) || (field.getAnnotation(MaxSize.class) != null)
+                || (field.getAnnotation(MatchPattern.class) != null) || (field.getAnnotation(AllowedValues.class) != null))
+        {
+            fieldFlags |= IFieldBinder.FLAG_CONSTRAINTS;
+        }
+        if (field.getAnnotation(ParserPipeline.class) != null)
+        {
+            fieldFlags |= IFieldBinder.FLAG_PARSER_PIPELINE;
+        }
+        return fieldFlags;
+    }
+
+    /**
+     * @return {@code true} - if generated class from same package can access members of type
+     */
+    private static boolean isTypeAccessible(TypeElement bindingType)
+    {
+        Element element = bindingType;
+        while ((element != null) && (element.getKind() != ElementKind.PACKAGE))
+        {
+            if (element.getModifiers().contains(Modifier.PRIVATE))
+            {
+                return false;
+            }
+            if ((element instanceof TypeElement) && (((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) && (((TypeElement) element).getNestingKind() != NestingKind.MEMBER))
+            {   // local or anonymous class
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2025 MrKirill1232 (aka Butolin Kyrylo)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package git.index.fieldparser.model.parsers.numbers;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * Differential test of {@link DecimalNumberScanner} against {@link Double#parseDouble(String)} / {@link Float#parseFloat(String)}.
+ * Results should be equal bit by bit. Values, which JDK parses into infinity, should be rejected by scanner.
+ * <p>Project does not have a test framework - test is started by {@link #main(String[])} and exits with code {@code 1} on mismatch.</p>
+ */
+public class DecimalNumberScannerTest
+{
+    private final static long SEED = 0x5EED_0045L;
+    private final static int RANDOM_ITERATIONS = 200_000;
+
+    private final static String[] BOUNDARY_VALUES =
+    {
+            "0", "-0", "0.0", "-0.0", "1", "-1", "0.1", "0.2", "0.3", "1e0", "1e-1", "123.456",
+            // subnormals and smallest values
+            "4.9e-324", "4.9406564584124654e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "1e-324", "3e-324",
+            "2.2250738585072011e-308", "2.2250738585072012e-308", "2.2250738585072014e-308", "2.225073858507201e-308",
+            "1.4e-45", "1.401298464324817e-45", "7.006492321624085e-46", "7.006492321624086e-46", "1.1754943508222875e-38", "1.1754942e-38",
+            // largest values and overflow
+            "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e308", "1e309", "-1e309",
+            "3.4028235e38", "3.4028235677973366e38", "3.4028236e38", "3.5e38",
+            // halfway values - ties to even
+            "9007199254740993", "9007199254740995", "9007199254740997", "18014398509481986", "18014398509481990",
+            "1.00000000000000011102230246251565404236316680908203125", "1.00000000000000011102230246251565404236316680908203126",
+            "1.00000000000000011102230246251565404236316680908203124", "16777217", "16777219", "1.00000005960464477539062500", "1.00000005960464477539062501",
+            // 19+ digit mantissas
+            "1234567890123456789", "12345678901234567890", "123456789012345678901234567890", "0.1234567890123456789012345",
+            "9999999999999999999", "99999999999999999999", "18446744073709551615", "18446744073709551616", "123456789012345678901234567890e-10",
+            "0.30000000000000000000000000000000000001", "2.71828182845904523536028747135266249775724709369995", "3.14159265358979323846264338327950288419716939937510e-300",
+            "7.2057594037927933e16", "9007199254740992.000000000000000000001", "0.000000000000000000000000000000000000000000001e300",
+    };
+
+    public static void main(String[] args)
+    {
+        int failures = 0;
+        for (String value : BOUNDARY_VALUES)
+        {
+            failures += checkDouble(value);
+            failures += checkFloat(value);
+        }
+        Random random = new Random(SEED);
+        for (int iteration = 0; iteration < RANDOM_ITERATIONS; iteration++)
+        {
+            String doubleValue = nextValue(random, false);
+            failures += checkDouble(doubleValue);
+            String floatValue = nextValue(random, true);
+            failures += checkFloat(floatValue);
+        }
+        System.out.println("Checked " + ("[" + (BOUNDARY_VALUES.length + RANDOM_ITERATIONS) + "]") + " values per type, failures " + ("[" + failures + "]") + ".");
+        if (failures != 0)
+        {
+            System.exit(1);
+        }
+    }
+
+    private static String nextValue(Random random, boolean isFloat)
+    {
+        switch (random.nextInt(5))
+        {
+            case 0:
+            {   // shortest representation of random bits
+                if (isFloat)
+                {
+                    float value = Float.intBitsToFloat(random.nextInt());
+                    return Float.isFinite(value) ? Float.toString(value) : "1";
+                }
+                double value = Double.longBitsToDouble(random.nextLong());
+                return Double.isFinite(value) ? Double.toString(value) : "1";
+            }
+            case 1:
+            {   // exact decimal expansion of random bits (long mantissa, often near halfway)
+                double value = isFloat ? Float.intBitsToFloat(random.nextInt()) : Double.longBitsToDouble(random.nextLong());
+                if (!Double.isFinite(value))
+                {
+                    return "1";
+                }
+                String exactValue = new BigDecimal(value).toString();
+                return (exactValue.length() > 800) ? Double.toString(value) : exactValue;
+            }
+            case 2:
+            {   // halfway between two neighbours
+                if (isFloat)
+                {
+                    float value = Math.abs(Float.intBitsToFloat(random.nextInt()));
+                    if (!Float.isFinite(value) || (value == Float.MAX_VALUE))
+                    {
+                        return "1";
+                    }
+                    return new BigDecimal(value).add(new BigDecimal(Math.nextUp(value))).divide(BigDecimal.valueOf(2)).toString();
+                }
+                double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+                if (!Double.isFinite(value) || (value == Double.MAX_VALUE))
+                {
+                    return "1";
+                }
+                String halfwayValue = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value))).divide(BigDecimal.valueOf(2)).toString();
+                return (halfwayValue.length() > 800) ? Double.toString(value) : halfwayValue;
+            }
+            case 3:
+            {   // random digits with random exponent
+                StringBuilder value = new StringBuilder();
+                if (random.nextBoolean())
+                {
+                    value.append('-');
+                }
+                int digits = 1 + random.nextInt(25);
+                int dotIndex = random.nextInt(digits + 1);
+                for (int index = 0; index < digits; index++)
+                {
+                    if ((index == dotIndex) && (index != 0))
+                    {
+                        value.append('.');
+                    }
+                    value.append((char) ('0' + random.nextInt(10)));
+                }
+                int exponentRange = isFloat ? 90 : 700;
+                return value.append('e').append(random.nextInt(exponentRange) - (exponentRange / 2)).toString();
+            }
+            default:
+            {   // small integers and simple fractions
+                return random.nextInt(1_000_000) + "." + random.nextInt(1000);
+            }
+        }
+    }
+
+    private static int checkDouble(String value)
+    {
+        double expected = Double.parseDouble(value);
+        double actual = DecimalNumberScanner.parseDouble(value, Double.NaN);
+        if (Double.isInfinite(expected) ? Double.isNaN(actual) : (Double.doubleToRawLongBits(expected) == Double.doubleToRawLongBits(actual)))
+        {
+            return 0;
+        }
+        System.out.println("double " + ("[" + value + "]") + " expected " + ("[" + expected + "]") + ", actual " + ("[" + actual + "]"));
+        return 1;
+    }
+
+    private static int checkFloat(String value)
+    {
+        float expected = Float.parseFloat(value);
+        float actual = DecimalNumberScanner.parseFloat(value, Float.NaN);
+        if (Float.isInfinite(expected) ? Float.isNaN(actual) : (Float.floatToRawIntBits(expected) == Float.floatToRawIntBits(actual)))
+        {
+            return 0;
+        }
+        System.out.println("float " + ("[" + value + "]") + " expected " + ("[" + expected + "]") + ", actual " + ("[" + actual + "]"));
+        return 1;
+    }
+}